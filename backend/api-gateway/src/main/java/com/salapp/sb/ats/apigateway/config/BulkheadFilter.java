@@ -0,0 +1,50 @@
+package com.salapp.sb.ats.apigateway.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Caps the number of requests a route has in flight at once, using the Resilience4j bulkhead
+ * {@code resilience4j.bulkhead.instances.<name>}.
+ * <p>
+ * A request over the cap fails with {@link io.github.resilience4j.bulkhead.BulkheadFullException}. Placed after the
+ * route's {@code CircuitBreaker} filter, that request is answered by the circuit breaker's fallback, so a slow
+ * service cannot hold every gateway connection. Available and maximum concurrent calls are published as
+ * {@code resilience4j.bulkhead.*}.
+ * </p>
+ */
+@Component
+public class BulkheadFilter extends AbstractGatewayFilterFactory<BulkheadFilter.Config> {
+
+    private final BulkheadRegistry bulkheadRegistry;
+
+    public BulkheadFilter(BulkheadRegistry bulkheadRegistry) {
+        super(Config.class);
+        this.bulkheadRegistry = bulkheadRegistry;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("name");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(config.getName());
+        return (exchange, chain) -> chain.filter(exchange).transformDeferred(BulkheadOperator.of(bulkhead));
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+        private String name;
+    }
+}
@@ -0,0 +1,62 @@
+package com.salapp.sb.ats.apigateway.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Answers revalidation of content-addressed uploads at the gateway.
+ * <p>
+ * Blob URLs ({@code /uploads/ab/cd/<sha256>.<ext>}) never change content and user-service uses the hash as their
+ * ETag, so a conditional GET carrying that ETag can be answered with 304 here instead of being proxied.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ImmutableUploadFilter extends AbstractGatewayFilterFactory<ImmutableUploadFilter.Config> {
+
+    private static final Pattern BLOB_PATH = Pattern.compile("/uploads/[0-9a-f]{2}/[0-9a-f]{2}/([0-9a-f]{64})\\.[a-z0-9]{1,5}");
+    private static final String CACHE_CONTROL = "max-age=31536000, public, immutable";
+
+    public ImmutableUploadFilter() {
+        super(Config.class);
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            List<String> ifNoneMatch = exchange.getRequest().getHeaders().getIfNoneMatch();
+            if (ifNoneMatch.isEmpty() || exchange.getRequest().getMethod() != HttpMethod.GET) {
+                return chain.filter(exchange);
+            }
+
+            Matcher matcher = BLOB_PATH.matcher(exchange.getRequest().getPath().value());
+            if (!matcher.matches()) {
+                return chain.filter(exchange);
+            }
+            String etag = "\"" + matcher.group(1) + "\"";
+            if (!ifNoneMatch.contains(etag) && !ifNoneMatch.contains("W/" + etag)) {
+                return chain.filter(exchange);
+            }
+
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            response.getHeaders().set(HttpHeaders.ETAG, etag);
+            response.getHeaders().set(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+            return response.setComplete();
+        };
+    }
+
+    public static class Config {
+
+    }
+}
@@ -0,0 +1,70 @@
+package com.salapp.sb.ats.apigateway.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Token buckets kept in memory on this gateway instance.
+ * <p>
+ * Each bucket is locked on its own, so requests for different keys never contend. Buckets idle for
+ * {@code gateway.rate-limit.idle-timeout} are dropped (an idle bucket is full anyway, as long as the timeout is not
+ * shorter than the longest refill period), and at most {@code gateway.rate-limit.maximum-buckets} are kept so that
+ * requests from many addresses cannot exhaust memory. Bucket counts are published as {@code cache.size{cache=ratelimit}}.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "gateway.rate-limit.store", havingValue = "local", matchIfMissing = true)
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final Cache<String, TokenBucket> buckets;
+
+    public InMemoryRateLimitStore(MeterRegistry meterRegistry,
+                                  @Value("${gateway.rate-limit.maximum-buckets:100000}") long maximumBuckets,
+                                  @Value("${gateway.rate-limit.idle-timeout:PT10M}") Duration idleTimeout) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumBuckets)
+                .expireAfterAccess(idleTimeout)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "ratelimit");
+    }
+
+    @Override
+    public Mono<Duration> tryConsume(String key, long capacity, Duration period) {
+        return Mono.fromSupplier(() -> Duration.ofNanos(buckets.get(key, k -> new TokenBucket(capacity))
+                .tryConsume(capacity, period.toNanos(), System.nanoTime())));
+    }
+
+    static final class TokenBucket {
+
+        private double tokens;
+        private long refilledAt;
+
+        TokenBucket(long capacity) {
+            this.tokens = capacity;
+            this.refilledAt = System.nanoTime();
+        }
+
+        /**
+         * @return 0 if a token was taken, otherwise the nanoseconds until one is available
+         */
+        synchronized long tryConsume(long capacity, long periodNanos, long now) {
+            double nanosPerToken = (double) periodNanos / capacity;
+            tokens = Math.min(capacity, tokens + (now - refilledAt) / nanosPerToken);
+            refilledAt = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) * nanosPerToken);
+        }
+    }
+}
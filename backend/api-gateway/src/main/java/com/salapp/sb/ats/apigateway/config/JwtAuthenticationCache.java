@@ -0,0 +1,185 @@
+package com.salapp.sb.ats.apigateway.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Remembers verified JWTs so that a token is only verified and converted once, not on every request.
+ * <p>
+ * Entries are keyed by the SHA-256 of the raw token, so raw tokens are not kept in memory, and hold the decoded
+ * {@link Jwt} plus its granted authorities and forwarded header values. An entry expires with its token ({@code exp}), or after
+ * {@code jwt.cache.max-ttl} if that is sooner, so an expired token is never accepted from the cache. Only tokens
+ * the delegate decoder accepted are cached. Entries can be purged for a single token or a subject when access is
+ * revoked. Hit ratio is published as {@code cache.gets{cache=jwt}} and verification time as
+ * {@code gateway.jwt.verify}.
+ * </p>
+ */
+@Slf4j
+@Component
+public class JwtAuthenticationCache {
+
+    private record Entry(Jwt jwt, List<GrantedAuthority> authorities, ForwardedHeaders headers) {
+    }
+
+    /**
+     * Values of the identity headers the gateway forwards to downstream services.
+     *
+     * @param roles       comma-separated {@code ROLE_} authorities
+     * @param permissions comma-separated remaining authorities
+     */
+    public record ForwardedHeaders(String userId, String roles, String permissions) {
+
+        static ForwardedHeaders of(String userId, Collection<? extends GrantedAuthority> authorities) {
+            StringBuilder roles = new StringBuilder();
+            StringBuilder permissions = new StringBuilder();
+            for (GrantedAuthority authority : authorities) {
+                String value = authority.getAuthority();
+                StringBuilder target = value.startsWith("ROLE_") ? roles : permissions;
+                if (!target.isEmpty()) {
+                    target.append(',');
+                }
+                target.append(value);
+            }
+            return new ForwardedHeaders(userId, roles.toString(), permissions.toString());
+        }
+    }
+
+    private final Cache<ByteBuffer, Entry> cache;
+    private final Timer verifyTimer;
+
+    public JwtAuthenticationCache(MeterRegistry meterRegistry,
+                                  @Value("${jwt.cache.maximum-size:10000}") long maximumSize,
+                                  @Value("${jwt.cache.max-ttl:PT15M}") Duration maxTtl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<ByteBuffer, Entry>() {
+                    @Override
+                    public long expireAfterCreate(ByteBuffer key, Entry entry, long currentTime) {
+                        Instant expiresAt = entry.jwt().getExpiresAt();
+                        Duration ttl = expiresAt == null ? maxTtl : Duration.between(Instant.now(), expiresAt);
+                        return Math.max(0, Math.min(ttl.toNanos(), maxTtl.toNanos()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ByteBuffer key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(ByteBuffer key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        this.verifyTimer = Timer.builder("gateway.jwt.verify")
+                .description("Time to verify and decode a JWT that was not cached")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt");
+    }
+
+    /**
+     * Wraps a decoder so that tokens it accepted are answered from the cache until they expire.
+     */
+    public ReactiveJwtDecoder decoder(ReactiveJwtDecoder delegate) {
+        return token -> {
+            ByteBuffer key = digest(token);
+            Entry cached = cache.getIfPresent(key);
+            if (cached != null) {
+                return Mono.just(cached.jwt());
+            }
+            return Mono.defer(() -> {
+                Timer.Sample sample = Timer.start();
+                return delegate.decode(token).doOnNext(jwt -> {
+                    sample.stop(verifyTimer);
+                    cache.put(key, new Entry(jwt, null, null));
+                });
+            });
+        };
+    }
+
+    /**
+     * Returns the authorities of a decoded token, computing them with {@code converter} only once per token.
+     */
+    public Collection<GrantedAuthority> authorities(Jwt jwt, Converter<Jwt, List<GrantedAuthority>> converter) {
+        ByteBuffer key = digest(jwt.getTokenValue());
+        Entry cached = cache.getIfPresent(key);
+        if (cached != null && cached.authorities() != null) {
+            return cached.authorities();
+        }
+        List<GrantedAuthority> authorities = List.copyOf(converter.convert(jwt));
+        // Only completes entries of tokens that are still cached, so an evicted token is not resurrected
+        cache.asMap().computeIfPresent(key, (k, entry) -> new Entry(entry.jwt(), authorities, entry.headers()));
+        return authorities;
+    }
+
+    /**
+     * Returns the headers to forward for an authenticated token, building them only once per token.
+     */
+    public ForwardedHeaders forwardedHeaders(Jwt jwt, Collection<? extends GrantedAuthority> authorities) {
+        ByteBuffer key = digest(jwt.getTokenValue());
+        Entry cached = cache.getIfPresent(key);
+        if (cached != null && cached.headers() != null) {
+            return cached.headers();
+        }
+        ForwardedHeaders headers = ForwardedHeaders.of(jwt.getSubject(), authorities);
+        cache.asMap().computeIfPresent(key, (k, entry) -> new Entry(entry.jwt(), entry.authorities(), headers));
+        return headers;
+    }
+
+    /**
+     * Forgets a single token; the next request carrying it is verified again.
+     */
+    public void evict(String token) {
+        cache.invalidate(digest(token));
+    }
+
+    /**
+     * Forgets every cached token of a subject, for example after their roles changed or they were locked.
+     *
+     * @return the number of tokens removed
+     */
+    public int evictSubject(String subject) {
+        List<ByteBuffer> keys = cache.asMap().entrySet().stream()
+                .filter(entry -> subject.equals(entry.getValue().jwt().getSubject()))
+                .map(Map.Entry::getKey)
+                .toList();
+        cache.invalidateAll(keys);
+        log.info("Evicted {} cached tokens of subject {}", keys.size(), subject);
+        return keys.size();
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.salapp.sb.ats.apigateway.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Purges the {@link JwtAuthenticationCache} on revocation: {@code DELETE /actuator/jwtcache/{subject}} for one user,
+ * {@code DELETE /actuator/jwtcache} for everyone. Only reachable on the management port, and only with an
+ * {@code ROLE_ADMIN} token (see {@link SecurityConfig}).
+ */
+@Component
+@Endpoint(id = "jwtcache")
+@RequiredArgsConstructor
+public class JwtCacheEndpoint {
+
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+
+    @DeleteOperation
+    public Map<String, Integer> evictSubject(@Selector String subject) {
+        return Map.of("evicted", jwtAuthenticationCache.evictSubject(subject));
+    }
+
+    @DeleteOperation
+    public void evictAll() {
+        jwtAuthenticationCache.evictAll();
+    }
+}
@@ -3,14 +3,17 @@ package com.salapp.sb.ats.apigateway.config;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
-import org.springframework.http.HttpHeaders;
-import org.springframework.security.core.GrantedAuthority;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
+/**
+ * Forwards the caller's identity to downstream services as {@code X-User-Id}, {@code X-Roles} and
+ * {@code X-Permissions}. The header values are built once per token and cached with it in
+ * {@link JwtAuthenticationCache}. Values sent by the client under these names are always replaced or removed, so
+ * they cannot be spoofed.
+ */
 @Slf4j
 @Component
 public class JwtHeaderFilter extends AbstractGatewayFilterFactory<JwtHeaderFilter.Config> {
@@ -18,46 +21,46 @@ public class JwtHeaderFilter extends AbstractGatewayFilterFactory<JwtHeaderFilte
     private static final String HEADER_ROLES = "X-Roles";
     private static final String HEADER_PERMISSIONS = "X-Permissions";
 
-    public JwtHeaderFilter() {
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+
+    public JwtHeaderFilter(JwtAuthenticationCache jwtAuthenticationCache) {
         super(Config.class);
+        this.jwtAuthenticationCache = jwtAuthenticationCache;
     }
 
     @Override
     public GatewayFilter apply(Config config) {
         log.info("JwtHeaderFilter config: {}", config);
-        return ((exchange, chain) -> {
-            log.debug("Principal: {}", exchange.getPrincipal());
-
-            return exchange.getPrincipal()
-                    .cast(JwtAuthenticationToken.class)
-                    .map(jwtAuthToken -> {
-                        String userId = jwtAuthToken.getToken().getSubject();
-                        List<String> roles = jwtAuthToken.getAuthorities().stream()
-                                .filter(auth -> auth.getAuthority().startsWith("ROLE_")) // Filter roles
-                                .map(GrantedAuthority::getAuthority)
-                                .collect(Collectors.toList());
-
-                        List<String> authorities = jwtAuthToken.getAuthorities().stream()
-                                .filter(auth -> !auth.getAuthority().startsWith("ROLE_")) // Filter permissions
-                                .map(GrantedAuthority::getAuthority)
-                                .collect(Collectors.toList());
-
-                        // Add headers to the request
-                        HttpHeaders headers = new HttpHeaders();
-                        headers.add(HEADER_USER_ID, userId);
-                        headers.add(HEADER_ROLES, String.join(",", roles));
-                        headers.add(HEADER_PERMISSIONS, String.join(",", authorities));
-
-                        log.info("Add headers to request: {}", headers);
+        return ((exchange, chain) -> exchange.getPrincipal()
+                .filter(JwtAuthenticationToken.class::isInstance)
+                .cast(JwtAuthenticationToken.class)
+                .map(jwtAuthToken -> {
+                    JwtAuthenticationCache.ForwardedHeaders forwarded =
+                            jwtAuthenticationCache.forwardedHeaders(jwtAuthToken.getToken(), jwtAuthToken.getAuthorities());
+                    if (log.isDebugEnabled()) {
+                        log.debug("Forwarding identity headers: {}", forwarded);
+                    }
 
-                        return exchange.mutate()
-                                .request(exchange.getRequest().mutate()
-                                        .headers(httpHeaders -> httpHeaders.addAll(headers))
-                                        .build())
-                                .build();
-                    }).defaultIfEmpty(exchange)
-                    .flatMap(chain::filter);
-        });
+                    ServerHttpRequest request = exchange.getRequest().mutate()
+                            .headers(headers -> {
+                                headers.set(HEADER_USER_ID, forwarded.userId());
+                                headers.set(HEADER_ROLES, forwarded.roles());
+                                headers.set(HEADER_PERMISSIONS, forwarded.permissions());
+                            })
+                            .build();
+                    return exchange.mutate().request(request).build();
+                })
+                // Built lazily: only anonymous requests need the client's identity headers stripped
+                .switchIfEmpty(Mono.fromSupplier(() -> exchange.mutate()
+                        .request(exchange.getRequest().mutate()
+                                .headers(headers -> {
+                                    headers.remove(HEADER_USER_ID);
+                                    headers.remove(HEADER_ROLES);
+                                    headers.remove(HEADER_PERMISSIONS);
+                                })
+                                .build())
+                        .build()))
+                .flatMap(chain::filter));
     }
 
     public static class Config {
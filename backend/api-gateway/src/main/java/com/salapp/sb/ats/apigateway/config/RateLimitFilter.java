@@ -0,0 +1,121 @@
+package com.salapp.sb.ats.apigateway.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+/**
+ * Token-bucket rate limiting, applied before a request is proxied.
+ * <p>
+ * A route can limit requests per client address, per authenticated user and for the route as a whole; a limit with
+ * a capacity of 0 is off. Buckets are checked in that order and the first empty one rejects the request with 429 and
+ * a {@code Retry-After} header, so throttled login attempts never reach auth-server. Decisions are counted as
+ * {@code gateway.ratelimit.requests} tagged with route, outcome and the limit that rejected the request.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends AbstractGatewayFilterFactory<RateLimitFilter.Config> {
+
+    private static final Decision ALLOWED = new Decision("none", Duration.ZERO);
+
+    private final RateLimitStore rateLimitStore;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitFilter(RateLimitStore rateLimitStore, MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.rateLimitStore = rateLimitStore;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            String routeId = routeId(exchange);
+            return exchange.getPrincipal()
+                    .filter(JwtAuthenticationToken.class::isInstance)
+                    .map(principal -> ((JwtAuthenticationToken) principal).getToken().getSubject())
+                    .defaultIfEmpty("")
+                    .flatMap(subject -> Flux.just(
+                                    new Limit("ip", clientAddress(exchange), config.getIpCapacity(), config.getIpPeriod()),
+                                    new Limit("user", subject, config.getUserCapacity(), config.getUserPeriod()),
+                                    new Limit("route", routeId, config.getRouteCapacity(), config.getRoutePeriod()))
+                            // One bucket at a time; later buckets are not charged once one rejects
+                            .concatMap(limit -> consume(routeId, limit).map(retryAfter -> new Decision(limit.name(), retryAfter)))
+                            .filter(decision -> !decision.retryAfter().isZero())
+                            .next()
+                            .defaultIfEmpty(ALLOWED))
+                    .flatMap(decision -> {
+                        if (decision.retryAfter().isZero()) {
+                            meterRegistry.counter("gateway.ratelimit.requests", "route", routeId, "outcome", "allowed", "limit", decision.limit()).increment();
+                            return chain.filter(exchange);
+                        }
+                        meterRegistry.counter("gateway.ratelimit.requests", "route", routeId, "outcome", "rejected", "limit", decision.limit()).increment();
+                        log.debug("Rate limited {} on route {} by {} limit", exchange.getRequest().getPath(), routeId, decision.limit());
+                        return reject(exchange.getResponse(), decision.retryAfter());
+                    });
+        };
+    }
+
+    private Mono<Duration> consume(String routeId, Limit limit) {
+        if (limit.capacity() <= 0 || limit.key().isEmpty()) {
+            return Mono.just(Duration.ZERO);
+        }
+        return rateLimitStore.tryConsume(limit.name() + ':' + routeId + ':' + limit.key(), limit.capacity(), limit.period());
+    }
+
+    private static Mono<Void> reject(ServerHttpResponse response, Duration retryAfter) {
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        // Whole seconds, rounded up so a client that honours it is not rejected again
+        long seconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+        return response.setComplete();
+    }
+
+    private static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route == null ? "unknown" : route.getId();
+    }
+
+    private static String clientAddress(ServerWebExchange exchange) {
+        // The socket address, not X-Forwarded-For: a client can put any value in that header
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        if (remoteAddress == null || remoteAddress.getAddress() == null) {
+            return "unknown";
+        }
+        return remoteAddress.getAddress().getHostAddress();
+    }
+
+    private record Limit(String name, String key, long capacity, Duration period) {
+    }
+
+    private record Decision(String limit, Duration retryAfter) {
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+        private long ipCapacity;
+        private Duration ipPeriod = Duration.ofMinutes(1);
+        private long userCapacity;
+        private Duration userPeriod = Duration.ofMinutes(1);
+        private long routeCapacity;
+        private Duration routePeriod = Duration.ofSeconds(1);
+    }
+}
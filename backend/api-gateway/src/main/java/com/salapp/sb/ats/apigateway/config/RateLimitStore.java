@@ -0,0 +1,24 @@
+package com.salapp.sb.ats.apigateway.config;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Holds the token buckets used by {@link RateLimitFilter}.
+ * <p>
+ * The default {@link InMemoryRateLimitStore} keeps buckets per gateway instance. A store shared by all instances
+ * (for example backed by Redis) can replace it by setting {@code gateway.rate-limit.store} to another value and
+ * registering its own bean.
+ * </p>
+ */
+public interface RateLimitStore {
+
+    /**
+     * Takes one token from the bucket {@code key}, which holds up to {@code capacity} tokens and refills completely
+     * over {@code period}.
+     *
+     * @return {@link Duration#ZERO} if a token was taken, otherwise how long until one is available
+     */
+    Mono<Duration> tryConsume(String key, long capacity, Duration period);
+}
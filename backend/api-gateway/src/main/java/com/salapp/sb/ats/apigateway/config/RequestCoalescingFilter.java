@@ -0,0 +1,254 @@
+package com.salapp.sb.ats.apigateway.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collapses identical concurrent GETs into one upstream call.
+ * <p>
+ * The first request for a key (method, path, query and authenticated user) is proxied as usual. Identical requests
+ * arriving before its response body starts wait for that call and receive a copy of its response instead of being
+ * proxied; the body is only copied, as it streams to the client, once at least one such request is waiting. Requests
+ * arriving after an uncopied body has started are proxied on their own. Only complete {@code 200} responses up to
+ * {@code maxBodySize} without {@code Set-Cookie} are shared; in every other case, and when {@code maxWait} passes
+ * first, a waiting request is proxied on its own. Conditional and range requests are never coalesced because their
+ * responses differ.
+ * </p>
+ * <p>
+ * Runs at {@link #ORDER}, ahead of the other route filters, so that the upstream body is written through it. The
+ * user is therefore taken from the exchange principal, never from a header the client could send. Shared responses
+ * are counted as {@code gateway.coalesced.requests}.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RequestCoalescingFilter extends AbstractGatewayFilterFactory<RequestCoalescingFilter.Config> {
+
+    /**
+     * Runs before {@link NettyWriteResponseFilter}, so that the upstream body is written through this filter.
+     */
+    public static final int ORDER = NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public RequestCoalescingFilter(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        // Ordered like ModifyResponseBody: only filters running before NettyWriteResponseFilter see the body written
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (!isCoalescable(request)) {
+                return chain.filter(exchange);
+            }
+            return exchange.getPrincipal()
+                    .map(Principal::getName)
+                    .defaultIfEmpty("")
+                    .flatMap(user -> coalesce(exchange, chain, key(request, user), config));
+        }, ORDER);
+    }
+
+    private Mono<Void> coalesce(ServerWebExchange exchange, GatewayFilterChain chain, String key, Config config) {
+        InFlight call = new InFlight(key);
+        InFlight leader = inFlight.putIfAbsent(key, call);
+        if (leader == null) {
+            return lead(exchange, chain, call, config.getMaxBodySize().toBytes());
+        }
+        if (leader.join()) {
+            return follow(exchange, chain, leader.result.asMono(), config.getMaxWait());
+        }
+        return chain.filter(exchange);
+    }
+
+    private Mono<Void> lead(ServerWebExchange exchange, GatewayFilterChain chain, InFlight call, long maxBodySize) {
+        CapturingResponse response = new CapturingResponse(exchange.getResponse(), call, maxBodySize);
+        // Normally finished once the body is written; this covers responses that never write one
+        return chain.filter(exchange.mutate().response(response).build())
+                .doFinally(signal -> response.finish());
+    }
+
+    private Mono<Void> follow(ServerWebExchange exchange, GatewayFilterChain chain,
+                              Mono<Optional<SharedResponse>> leader, Duration maxWait) {
+        return leader.timeout(maxWait, Mono.just(Optional.empty()))
+                .flatMap(shared -> {
+                    if (shared.isEmpty()) {
+                        return chain.filter(exchange);
+                    }
+                    meterRegistry.counter("gateway.coalesced.requests").increment();
+                    log.debug("Served {} from a coalesced response", exchange.getRequest().getPath());
+                    return shared.get().writeTo(exchange.getResponse());
+                });
+    }
+
+    private static boolean isCoalescable(ServerHttpRequest request) {
+        HttpHeaders headers = request.getHeaders();
+        return request.getMethod() == HttpMethod.GET
+                && !headers.containsKey(HttpHeaders.RANGE)
+                && !headers.containsKey(HttpHeaders.IF_NONE_MATCH)
+                && !headers.containsKey(HttpHeaders.IF_MODIFIED_SINCE);
+    }
+
+    private static String key(ServerHttpRequest request, String user) {
+        String query = request.getURI().getRawQuery();
+        return request.getURI().getRawPath() + (query == null ? "" : "?" + query) + '|' + user;
+    }
+
+    private record SharedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+
+        Mono<Void> writeTo(ServerHttpResponse response) {
+            response.setStatusCode(status);
+            response.getHeaders().addAll(headers);
+            return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(body)));
+        }
+    }
+
+    /**
+     * An upstream call in progress and the number of requests waiting for its response.
+     */
+    private static final class InFlight {
+
+        /** Follower count once the body has started without a copy being kept; no one can join any more. */
+        private static final int CLOSED = -1;
+
+        private final String key;
+        private final Sinks.One<Optional<SharedResponse>> result = Sinks.one();
+        private final AtomicInteger followers = new AtomicInteger();
+
+        InFlight(String key) {
+            this.key = key;
+        }
+
+        /**
+         * Registers a waiting request.
+         *
+         * @return {@code false} if the response is already streaming without a copy
+         */
+        boolean join() {
+            return followers.getAndUpdate(count -> count == CLOSED ? CLOSED : count + 1) != CLOSED;
+        }
+
+        /**
+         * Decides, as the body starts, whether to copy it: only when it can be shared and someone is waiting.
+         */
+        boolean startCapture(boolean shareable) {
+            int waiting = followers.getAndUpdate(count -> shareable && count > 0 ? count : CLOSED);
+            return shareable && waiting > 0;
+        }
+    }
+
+    /**
+     * Passes the body through unchanged while keeping a copy for waiting requests, as long as it stays within the
+     * size limit.
+     */
+    private final class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private final InFlight call;
+        private final long maxBodySize;
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        private volatile boolean shareable;
+        private volatile boolean complete;
+        private volatile long contentLength = -1;
+        private HttpHeaders headers;
+
+        CapturingResponse(ServerHttpResponse delegate, InFlight call, long maxBodySize) {
+            super(delegate);
+            this.call = call;
+            this.maxBodySize = maxBodySize;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            shareable = call.startCapture(
+                    HttpStatus.OK.equals(getStatusCode()) && !getHeaders().containsKey(HttpHeaders.SET_COOKIE));
+            if (shareable) {
+                headers = new HttpHeaders();
+                headers.addAll(getHeaders());
+                contentLength = getHeaders().getContentLength();
+            }
+            return super.writeWith(Flux.from(body)
+                            .doOnNext(this::copy)
+                            .doOnComplete(() -> complete = true))
+                    .doFinally(signal -> finish());
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            // Streaming media types are flushed per element and never shared
+            call.startCapture(false);
+            return super.writeAndFlushWith(body);
+        }
+
+        /**
+         * Hands the outcome to the waiting requests and lets the next identical request go upstream.
+         */
+        void finish() {
+            inFlight.remove(call.key, call);
+            call.result.tryEmitValue(shared());
+        }
+
+        private void copy(DataBuffer buffer) {
+            if (!shareable) {
+                return;
+            }
+            int readable = buffer.readableByteCount();
+            if (this.body.size() + readable > maxBodySize) {
+                shareable = false;
+                return;
+            }
+            byte[] chunk = new byte[readable];
+            buffer.toByteBuffer(buffer.readPosition(), ByteBuffer.wrap(chunk), 0, readable);
+            this.body.write(chunk, 0, readable);
+        }
+
+        Optional<SharedResponse> shared() {
+            // The server cancels rather than completes the body once it has written Content-Length bytes
+            boolean whole = complete || (contentLength >= 0 && body.size() == contentLength);
+            if (!shareable || !whole) {
+                return Optional.empty();
+            }
+            return Optional.of(new SharedResponse(getStatusCode(), headers, body.toByteArray()));
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+        private Duration maxWait = Duration.ofSeconds(2);
+        private DataSize maxBodySize = DataSize.ofKilobytes(512);
+    }
+}
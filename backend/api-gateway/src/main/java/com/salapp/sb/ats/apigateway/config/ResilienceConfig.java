@@ -0,0 +1,46 @@
+package com.salapp.sb.ats.apigateway.config;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.core.registry.EntryAddedEvent;
+import io.github.resilience4j.core.registry.EntryRemovedEvent;
+import io.github.resilience4j.core.registry.EntryReplacedEvent;
+import io.github.resilience4j.core.registry.RegistryEventConsumer;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@Configuration
+public class ResilienceConfig {
+
+    /**
+     * Counts circuit breaker state transitions as {@code gateway.circuitbreaker.transitions}. The current state and
+     * rejected calls are already published by Resilience4j as {@code resilience4j.circuitbreaker.state} and
+     * {@code resilience4j.circuitbreaker.not.permitted.calls}.
+     */
+    @Bean
+    public RegistryEventConsumer<CircuitBreaker> circuitBreakerTransitionMetrics(MeterRegistry meterRegistry) {
+        return new RegistryEventConsumer<>() {
+            @Override
+            public void onEntryAddedEvent(EntryAddedEvent<CircuitBreaker> event) {
+                CircuitBreaker circuitBreaker = event.getAddedEntry();
+                circuitBreaker.getEventPublisher().onStateTransition(transition -> {
+                    log.warn("Circuit breaker {} changed {}", circuitBreaker.getName(), transition.getStateTransition());
+                    meterRegistry.counter("gateway.circuitbreaker.transitions",
+                            "name", circuitBreaker.getName(),
+                            "from", transition.getStateTransition().getFromState().name(),
+                            "to", transition.getStateTransition().getToState().name()).increment();
+                });
+            }
+
+            @Override
+            public void onEntryRemovedEvent(EntryRemovedEvent<CircuitBreaker> event) {
+            }
+
+            @Override
+            public void onEntryReplacedEvent(EntryReplacedEvent<CircuitBreaker> event) {
+            }
+        };
+    }
+}
@@ -0,0 +1,62 @@
+package com.salapp.sb.ats.apigateway.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyRoutingFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.core.Ordered;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+/**
+ * Proxies the routes that have an upstream client profile through a client of their own.
+ * <p>
+ * It runs just ahead of Spring Cloud Gateway's {@link NettyRoutingFilter} and hands a route with a profile to a
+ * {@code NettyRoutingFilter} built on that route's client, which marks the exchange as routed so the shared client
+ * leaves it alone. Every other route falls through to the shared client.
+ * </p>
+ */
+public class RouteUpstreamRoutingFilter implements GlobalFilter, Ordered, DisposableBean {
+
+    public static final int ORDER = NettyRoutingFilter.ORDER - 1;
+
+    private final Map<String, NettyRoutingFilter> routingFilters;
+    private final List<ConnectionProvider> connectionProviders;
+
+    /**
+     * @param routingFilters      routing filter of each route with a profile, by route id
+     * @param connectionProviders the pools of those routes, disposed with this filter
+     */
+    public RouteUpstreamRoutingFilter(Map<String, NettyRoutingFilter> routingFilters,
+                                      List<ConnectionProvider> connectionProviders) {
+        this.routingFilters = Map.copyOf(routingFilters);
+        this.connectionProviders = List.copyOf(connectionProviders);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+        NettyRoutingFilter routingFilter = route != null ? routingFilters.get(route.getId()) : null;
+        if (routingFilter == null) {
+            return chain.filter(exchange);
+        }
+        return routingFilter.filter(exchange, chain);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public void destroy() {
+        connectionProviders.forEach(ConnectionProvider::dispose);
+    }
+}
@@ -35,12 +35,22 @@ public class SecurityConfig {
     @Value("${jwt.secret}") // Shared with Auth Server if symmetric
     private String jwtSecret;
 
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+
+    public SecurityConfig(JwtAuthenticationCache jwtAuthenticationCache) {
+        this.jwtAuthenticationCache = jwtAuthenticationCache;
+    }
+
     @Bean
     public SecurityWebFilterChain springSecurityFilterChain(ServerHttpSecurity http) {
         return http
                 .csrf(ServerHttpSecurity.CsrfSpec::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource())) // Enable CORS
                 .authorizeExchange(exchange -> exchange
+                        // Purges cached tokens; must be matched before the /actuator/** permitAll
+                        .pathMatchers("/actuator/jwtcache/**").hasRole("ADMIN")
+                        // Bulk reads and writes of every user
+                        .pathMatchers("/users/page", "/users/export", "/users/import").hasRole("ADMIN")
                         .pathMatchers("/auth/login", "/users/register", "/actuator/**", "/auth/signup", "/auth/verify-2fa", "/users/activate", "/users/*/activated", "/uploads/**").permitAll()
                         .pathMatchers("users/profile/**").authenticated()
                         .pathMatchers("/users/profile-picture/**").authenticated()
@@ -63,36 +73,39 @@ public class SecurityConfig {
             throw new IllegalArgumentException("JWT secret too short, needs 32+ bytes");
         }
         SecretKey key = Keys.hmacShaKeyFor(keyBytes);
-        return NimbusReactiveJwtDecoder.withSecretKey(key).build();
+        // The frontend repeats the same token on every call; verify it once per lifetime
+        return jwtAuthenticationCache.decoder(NimbusReactiveJwtDecoder.withSecretKey(key).build());
     }
 
     @Bean
     public Converter<org.springframework.security.oauth2.jwt.Jwt, Mono<AbstractAuthenticationToken>> jwtAuthenticationConverter() {
         JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
-        converter.setJwtGrantedAuthoritiesConverter(jwt -> {
-            // Extract roles from the "roles" claim
-            List<String> roles = jwt.getClaimAsStringList("roles");
-            if (roles == null) {
-                roles = Collections.emptyList();
-            }
+        converter.setJwtGrantedAuthoritiesConverter(jwt -> jwtAuthenticationCache.authorities(jwt, this::extractAuthorities));
 
-            // Extract authorities (permissions) from the "authorities" claim
-            List<String> authorities = jwt.getClaimAsStringList("authorities");
-            if (authorities == null) {
-                authorities = Collections.emptyList();
-            }
+        // Adapt to reactive Mono return type
+        return new ReactiveJwtAuthenticationConverterAdapter(converter);
+    }
 
-            // Combine roles and authorities into Spring Security authorities
-            List<GrantedAuthority> grantedAuthorities = new ArrayList<>();
-            grantedAuthorities.addAll(roles.stream().map(SimpleGrantedAuthority::new).toList());
-            grantedAuthorities.addAll(authorities.stream().map(SimpleGrantedAuthority::new).toList());
+    private List<GrantedAuthority> extractAuthorities(org.springframework.security.oauth2.jwt.Jwt jwt) {
+        // Extract roles from the "roles" claim
+        List<String> roles = jwt.getClaimAsStringList("roles");
+        if (roles == null) {
+            roles = Collections.emptyList();
+        }
 
-            log.debug("Extracted roles: {}, authorities: {}", roles, authorities);
-            return grantedAuthorities;
-        });
+        // Extract authorities (permissions) from the "authorities" claim
+        List<String> authorities = jwt.getClaimAsStringList("authorities");
+        if (authorities == null) {
+            authorities = Collections.emptyList();
+        }
 
-        // Adapt to reactive Mono return type
-        return new ReactiveJwtAuthenticationConverterAdapter(converter);
+        // Combine roles and authorities into Spring Security authorities
+        List<GrantedAuthority> grantedAuthorities = new ArrayList<>();
+        grantedAuthorities.addAll(roles.stream().map(SimpleGrantedAuthority::new).toList());
+        grantedAuthorities.addAll(authorities.stream().map(SimpleGrantedAuthority::new).toList());
+
+        log.debug("Extracted roles: {}, authorities: {}", roles, authorities);
+        return grantedAuthorities;
     }
 
     @Bean
@@ -0,0 +1,77 @@
+package com.salapp.sb.ats.apigateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Upstream client profiles, bound from {@code gateway.upstream.*}.
+ * <p>
+ * {@code max-pending-acquires} and {@code h2c} apply to the pool shared by every route, which is otherwise configured
+ * by {@code spring.cloud.gateway.httpclient.pool}. A route named under {@code routes} gets a pool of its own, named
+ * {@code upstream-<route id>}; settings its profile leaves out are taken from the shared pool.
+ * </p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.upstream")
+public class UpstreamClientProperties {
+
+    /**
+     * Requests allowed to wait for a connection of the shared pool before failing fast.
+     */
+    private int maxPendingAcquires = 1000;
+    /**
+     * Cleartext HTTP/2 (h2c) to upstreams, with HTTP/1.1 for those that do not upgrade.
+     */
+    private boolean h2c;
+    private Map<String, RouteProfile> routes = new LinkedHashMap<>();
+
+    /**
+     * Pool and protocol of one route. A {@code null} setting is taken from the shared pool.
+     */
+    @Getter
+    @Setter
+    public static class RouteProfile {
+        private Integer maxConnections;
+        private Integer maxPendingAcquires;
+        /**
+         * How long an idle connection is kept alive for reuse.
+         */
+        private Duration maxIdleTime;
+        private Boolean h2c;
+
+        /**
+         * @return the pending-acquire cap of this route, or {@code defaults}' if it sets none
+         */
+        int maxPendingAcquires(UpstreamClientProperties defaults) {
+            return maxPendingAcquires != null ? maxPendingAcquires : defaults.maxPendingAcquires;
+        }
+
+        /**
+         * @return whether this route speaks h2c, or {@code defaults}' setting if it sets none
+         */
+        boolean h2c(UpstreamClientProperties defaults) {
+            return h2c != null ? h2c : defaults.h2c;
+        }
+
+        /**
+         * Overrides the pool settings of {@code properties}, a copy of the shared client's, with this profile.
+         */
+        void applyTo(HttpClientProperties properties, String routeId) {
+            HttpClientProperties.Pool pool = properties.getPool();
+            pool.setName("upstream-" + routeId);
+            if (maxConnections != null) {
+                pool.setMaxConnections(maxConnections);
+            }
+            if (maxIdleTime != null) {
+                pool.setMaxIdleTime(maxIdleTime);
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.salapp.sb.ats.apigateway.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientFactory;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.config.HttpClientSslConfigurer;
+import org.springframework.cloud.gateway.filter.NettyRoutingFilter;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Connection pools and protocol of the clients the gateway uses to call auth-server and user-service.
+ * <p>
+ * Routes share one pool, sized, evicted and metered by {@code spring.cloud.gateway.httpclient.pool}; a route with a
+ * profile under {@code gateway.upstream.routes} gets its own (see {@link UpstreamClientProperties}), so that, for
+ * instance, long-running exports cannot hold every connection to user-service. Response and connect timeouts come
+ * from the routes' metadata. Spring Cloud Gateway does not bound the requests waiting for a connection of a full
+ * pool, so {@code max-pending-acquires} does: beyond it, requests fail fast and are answered by the route's circuit
+ * breaker fallback instead of queueing.
+ * </p>
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(UpstreamClientProperties.class)
+public class UpstreamHttpClientConfig {
+
+    private static final String HTTP_CLIENT_PREFIX = "spring.cloud.gateway.httpclient";
+
+    @Bean
+    public HttpClientFactory gatewayHttpClientFactory(HttpClientProperties properties,
+                                                      ServerProperties serverProperties,
+                                                      List<HttpClientCustomizer> customizers,
+                                                      HttpClientSslConfigurer sslConfigurer,
+                                                      UpstreamClientProperties upstream) {
+        return new UpstreamHttpClientFactory(properties, serverProperties, sslConfigurer, customizers,
+                upstream.getMaxPendingAcquires());
+    }
+
+    /**
+     * Speaks cleartext HTTP/2 (h2c, negotiated by HTTP/1.1 upgrade) to upstreams when {@code gateway.upstream.h2c}
+     * is set, so that concurrent requests to an instance share one multiplexed connection. Upstreams that do not
+     * upgrade keep being served over HTTP/1.1.
+     */
+    @Bean
+    public HttpClientCustomizer upstreamProtocolCustomizer(UpstreamClientProperties upstream) {
+        if (!upstream.isH2c()) {
+            return httpClient -> httpClient;
+        }
+        log.info("Using h2c for upstream connections");
+        return httpClient -> httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+    }
+
+    /**
+     * Builds the client of every route with a profile like the shared one (same SSL, proxy, timeouts and
+     * customizers), on a pool of its own.
+     */
+    @Bean
+    public RouteUpstreamRoutingFilter routeUpstreamRoutingFilter(UpstreamClientProperties upstream,
+                                                                 Environment environment,
+                                                                 ServerProperties serverProperties,
+                                                                 List<HttpClientCustomizer> customizers,
+                                                                 HttpClientSslConfigurer sslConfigurer,
+                                                                 ObjectProvider<List<HttpHeadersFilter>> headersFilters) {
+        Map<String, NettyRoutingFilter> routingFilters = new LinkedHashMap<>();
+        List<ConnectionProvider> connectionProviders = new ArrayList<>();
+        upstream.getRoutes().forEach((routeId, profile) -> {
+            HttpClientProperties properties = Binder.get(environment)
+                    .bindOrCreate(HTTP_CLIENT_PREFIX, HttpClientProperties.class);
+            profile.applyTo(properties, routeId);
+
+            List<HttpClientCustomizer> routeCustomizers = new ArrayList<>(customizers);
+            routeCustomizers.add(profile.h2c(upstream)
+                    ? httpClient -> httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11)
+                    : httpClient -> httpClient.protocol(HttpProtocol.HTTP11));
+
+            UpstreamHttpClientFactory factory = new UpstreamHttpClientFactory(properties, serverProperties,
+                    sslConfigurer, routeCustomizers, profile.maxPendingAcquires(upstream));
+            HttpClient httpClient = factory.build();
+            connectionProviders.add(factory.connectionProvider);
+            routingFilters.put(routeId, new NettyRoutingFilter(httpClient, headersFilters, properties));
+            log.info("Route {} uses upstream pool {}", routeId, properties.getPool().getName());
+        });
+        return new RouteUpstreamRoutingFilter(routingFilters, connectionProviders);
+    }
+
+    /**
+     * The stock factory, with the pending-acquire queue of its pool bounded.
+     */
+    private static class UpstreamHttpClientFactory extends HttpClientFactory {
+
+        private final int maxPendingAcquires;
+        private ConnectionProvider connectionProvider;
+
+        UpstreamHttpClientFactory(HttpClientProperties properties, ServerProperties serverProperties,
+                                  HttpClientSslConfigurer sslConfigurer, List<HttpClientCustomizer> customizers,
+                                  int maxPendingAcquires) {
+            super(properties, serverProperties, sslConfigurer, customizers);
+            this.maxPendingAcquires = maxPendingAcquires;
+        }
+
+        /**
+         * @return a new client, on a new pool, outside the factory bean's lifecycle
+         */
+        HttpClient build() {
+            return createInstance();
+        }
+
+        @Override
+        protected ConnectionProvider buildConnectionProvider(HttpClientProperties properties) {
+            ConnectionProvider provider = super.buildConnectionProvider(properties);
+            ConnectionProvider.Builder builder = provider.mutate();
+            if (builder != null) {
+                provider.dispose();
+                provider = builder.pendingAcquireMaxCount(maxPendingAcquires).build();
+            }
+            // a DISABLED pool opens a new connection per request, so there is nothing to bound
+            connectionProvider = provider;
+            return provider;
+        }
+    }
+}
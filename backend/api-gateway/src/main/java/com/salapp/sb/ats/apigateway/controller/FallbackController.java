@@ -1,20 +1,35 @@
 package com.salapp.sb.ats.apigateway.controller;
 
-import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+/**
+ * Targets of the routes' {@code CircuitBreaker} fallbacks. Requests are forwarded here with their original method
+ * when a circuit is open, a call timed out or a bulkhead is full, so every method is accepted and answered with 503.
+ */
 @RestController
 @RequestMapping("/fallback")
 public class FallbackController {
 
-    @GetMapping("/user")
-    public String userFallback() {
-        return "User Service is currently unavailable. Please try again later.";
+    // Matches resilience4j.circuitbreaker.configs.default.wait-duration-in-open-state
+    private static final String RETRY_AFTER_SECONDS = "10";
+
+    @RequestMapping("/user")
+    public ResponseEntity<String> userFallback() {
+        return unavailable("User Service is currently unavailable. Please try again later.");
+    }
+
+    @RequestMapping("/auth")
+    public ResponseEntity<String> authFallback() {
+        return unavailable("Auth Service is currently unavailable. Please try again later");
     }
 
-    @GetMapping("/auth")
-    public String authFallback() {
-        return "Auth Service is currently unavailable. Please try again later";
+    private static ResponseEntity<String> unavailable(String message) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(message);
     }
 }
@@ -0,0 +1,98 @@
+package com.salapp.sb.ats.apigateway;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Sends concurrent identical GETs through a route with the coalescing filter to a local stub, so that the body is
+ * written by the real gateway write path rather than a fake chain.
+ */
+@SpringBootTest(properties = {
+        // An open path, so the requests are not rejected before the route runs
+        "spring.cloud.gateway.routes[0].id=stub",
+        "spring.cloud.gateway.routes[0].uri=${stub.uri}",
+        "spring.cloud.gateway.routes[0].predicates[0]=Path=/uploads/**",
+        "spring.cloud.gateway.routes[0].filters[0]=RequestCoalescingFilter",
+        "eureka.client.enabled=false"
+})
+@AutoConfigureWebTestClient
+class RequestCoalescingRouteTest {
+
+    private static final int REQUESTS = 5;
+    private static final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    private static HttpServer stub;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @BeforeAll
+    static void startStub() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stub.createContext("/uploads/logo.png", exchange -> {
+            upstreamCalls.incrementAndGet();
+            byte[] body = "logo".getBytes(StandardCharsets.UTF_8);
+            try {
+                // Long enough for every request to arrive while the first one is in flight
+                Thread.sleep(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.start();
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.stop(0);
+    }
+
+    @DynamicPropertySource
+    static void stubUri(DynamicPropertyRegistry registry) {
+        registry.add("stub.uri", () -> "http://localhost:" + stub.getAddress().getPort());
+    }
+
+    @Test
+    void testConcurrentIdenticalGetsReachUpstreamOnce() {
+        // Arrange
+        ExecutorService clients = Executors.newFixedThreadPool(REQUESTS);
+
+        // Act
+        List<CompletableFuture<String>> responses = IntStream.range(0, REQUESTS)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> webTestClient.get().uri("/uploads/logo.png")
+                        .exchange()
+                        .expectStatus().isOk()
+                        .expectBody(String.class).returnResult().getResponseBody(), clients))
+                .toList();
+        List<String> bodies = responses.stream().map(CompletableFuture::join).toList();
+        clients.shutdown();
+
+        // Assert
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(List.of("logo", "logo", "logo", "logo", "logo"), bodies);
+    }
+}
@@ -0,0 +1,141 @@
+package com.salapp.sb.ats.apigateway;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Routes a path through the circuit breaker, time limiter and bulkhead to a local stub that stalls or fails, and a
+ * bulk path through a breaker without a time limiter.
+ */
+@SpringBootTest(properties = {
+        // An open path, so the stream is not rejected before the route runs
+        "spring.cloud.gateway.routes[0].id=stub-bulk",
+        "spring.cloud.gateway.routes[0].uri=${stub.uri}",
+        "spring.cloud.gateway.routes[0].predicates[0]=Path=/uploads/export",
+        "spring.cloud.gateway.routes[0].filters[0].name=CircuitBreaker",
+        "spring.cloud.gateway.routes[0].filters[0].args.name=userBulk",
+        "spring.cloud.gateway.routes[0].filters[0].args.fallbackUri=forward:/fallback/user",
+        "spring.cloud.gateway.routes[0].filters[1]=BulkheadFilter=userBulk",
+        "spring.cloud.gateway.routes[1].id=stub",
+        "spring.cloud.gateway.routes[1].uri=${stub.uri}",
+        "spring.cloud.gateway.routes[1].predicates[0]=Path=/users/**",
+        "spring.cloud.gateway.routes[1].filters[0].name=CircuitBreaker",
+        "spring.cloud.gateway.routes[1].filters[0].args.name=userService",
+        "spring.cloud.gateway.routes[1].filters[0].args.fallbackUri=forward:/fallback/user",
+        "spring.cloud.gateway.routes[1].filters[0].args.statusCodes=502,504",
+        "spring.cloud.gateway.routes[1].filters[1]=BulkheadFilter=userService",
+        "resilience4j.timelimiter.configs.default.timeout-duration=300ms",
+        "eureka.client.enabled=false"
+})
+@AutoConfigureWebTestClient
+class RouteResilienceTest {
+
+    private static HttpServer stub;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @BeforeAll
+    static void startStub() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stub.createContext("/users/activate", exchange -> {
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        stub.createContext("/users/register", exchange -> {
+            try {
+                Thread.sleep(2000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        stub.createContext("/uploads/export", exchange -> {
+            byte[] row = "{\"id\":\"1\"}\n".getBytes(StandardCharsets.UTF_8);
+            try {
+                // Longer than the time limit before the first byte, like an import answering once it has finished
+                Thread.sleep(600);
+                exchange.sendResponseHeaders(200, 0);
+                for (int i = 0; i < 3; i++) {
+                    exchange.getResponseBody().write(row);
+                    exchange.getResponseBody().flush();
+                    Thread.sleep(100);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.close();
+        });
+        stub.createContext("/users/1/activated", exchange -> {
+            exchange.sendResponseHeaders(502, -1);
+            exchange.close();
+        });
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.start();
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.stop(0);
+    }
+
+    @DynamicPropertySource
+    static void stubUri(DynamicPropertyRegistry registry) {
+        registry.add("stub.uri", () -> "http://localhost:" + stub.getAddress().getPort());
+    }
+
+    @Test
+    void testHealthyCallIsProxied() {
+        // Act & Assert
+        webTestClient.get().uri("/users/activate")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("ok");
+    }
+
+    @Test
+    void testStalledCallFallsBackAfterTimeout() {
+        // Act & Assert
+        webTestClient.post().uri("/users/register")
+                .exchange()
+                .expectStatus().isEqualTo(503)
+                .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "10")
+                .expectBody(String.class).isEqualTo("User Service is currently unavailable. Please try again later.");
+    }
+
+    @Test
+    void testBulkRouteOutlastsTheTimeLimit() {
+        // Act & Assert
+        webTestClient.get().uri("/uploads/export")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).value(body -> assertEquals(3, body.lines().count()));
+    }
+
+    @Test
+    void testBadGatewayFallsBack() {
+        // Act & Assert
+        webTestClient.get().uri("/users/1/activated")
+                .exchange()
+                .expectStatus().isEqualTo(503);
+    }
+}
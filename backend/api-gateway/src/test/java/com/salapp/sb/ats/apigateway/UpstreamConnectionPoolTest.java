@@ -0,0 +1,110 @@
+package com.salapp.sb.ats.apigateway;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Proxies sequential requests to a local stub that records the client port of each request, through the shared pool
+ * and through a route with a pool of its own.
+ */
+@SpringBootTest(properties = {
+        "spring.cloud.gateway.routes[0].id=stub-uploads",
+        "spring.cloud.gateway.routes[0].uri=${stub.uri}",
+        "spring.cloud.gateway.routes[0].predicates[0]=Path=/uploads/**",
+        "spring.cloud.gateway.routes[1].id=stub",
+        "spring.cloud.gateway.routes[1].uri=${stub.uri}",
+        "spring.cloud.gateway.routes[1].predicates[0]=Path=/users/**",
+        "gateway.upstream.routes.stub-uploads.max-connections=1",
+        "eureka.client.enabled=false"
+})
+@AutoConfigureWebTestClient
+class UpstreamConnectionPoolTest {
+
+    private static final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private static final Set<Integer> uploadClientPorts = ConcurrentHashMap.newKeySet();
+    private static HttpServer stub;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeAll
+    static void startStub() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stub.createContext("/users/activate", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        stub.createContext("/uploads/logo.png", exchange -> {
+            uploadClientPorts.add(exchange.getRemoteAddress().getPort());
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.start();
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.stop(0);
+    }
+
+    @DynamicPropertySource
+    static void stubUri(DynamicPropertyRegistry registry) {
+        registry.add("stub.uri", () -> "http://localhost:" + stub.getAddress().getPort());
+    }
+
+    @Test
+    void testSequentialRequestsReuseOnePooledConnection() {
+        // Act
+        for (int i = 0; i < 20; i++) {
+            webTestClient.get().uri("/users/activate").exchange().expectStatus().isNoContent();
+        }
+
+        // Assert
+        assertEquals(1, clientPorts.size());
+        assertNotNull(meterRegistry.find("reactor.netty.connection.provider.total.connections")
+                .tag("name", "upstream")
+                .gauge());
+    }
+
+    @Test
+    void testRouteWithProfileUsesItsOwnPool() {
+        // Act
+        for (int i = 0; i < 5; i++) {
+            webTestClient.get().uri("/users/activate").exchange().expectStatus().isNoContent();
+            webTestClient.get().uri("/uploads/logo.png").exchange().expectStatus().isNoContent();
+        }
+
+        // Assert
+        assertEquals(1, uploadClientPorts.size());
+        assertTrue(Collections.disjoint(clientPorts, uploadClientPorts));
+        assertEquals(1.0, meterRegistry.get("reactor.netty.connection.provider.max.connections")
+                .tag("name", "upstream-stub-uploads")
+                .gauge()
+                .value());
+    }
+}
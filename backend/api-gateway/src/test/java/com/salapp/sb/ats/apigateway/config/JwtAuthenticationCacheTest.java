@@ -0,0 +1,115 @@
+package com.salapp.sb.ats.apigateway.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class JwtAuthenticationCacheTest {
+
+    private final AtomicInteger verifications = new AtomicInteger();
+    private JwtAuthenticationCache cache;
+    private ReactiveJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        cache = new JwtAuthenticationCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(15));
+        decoder = cache.decoder(token -> {
+            verifications.incrementAndGet();
+            return Mono.just(jwt(token, token.startsWith("expired") ? Instant.now().minusSeconds(1) : Instant.now().plusSeconds(3600)));
+        });
+    }
+
+    @Test
+    void testDecode_VerifiesEachTokenOnce() {
+        // Act
+        Jwt first = decoder.decode("token-a").block();
+        Jwt second = decoder.decode("token-a").block();
+        decoder.decode("token-b").block();
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    void testDecode_ExpiredTokenIsNotServedFromCache() {
+        // Act
+        decoder.decode("expired-token").block();
+        decoder.decode("expired-token").block();
+
+        // Assert
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    void testAuthorities_ComputedOncePerToken() {
+        // Arrange
+        AtomicInteger conversions = new AtomicInteger();
+        Jwt jwt = decoder.decode("token-a").block();
+
+        // Act
+        cache.authorities(jwt, token -> {
+            conversions.incrementAndGet();
+            return List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        });
+        List<String> authorities = cache.authorities(jwt, token -> List.of()).stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+
+        // Assert
+        assertEquals(List.of("ROLE_USER"), authorities);
+        assertEquals(1, conversions.get());
+    }
+
+    @Test
+    void testForwardedHeaders_SplitsRolesAndPermissionsOncePerToken() {
+        // Arrange
+        Jwt jwt = decoder.decode("token-a").block();
+        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"),
+                new SimpleGrantedAuthority("profile:read"), new SimpleGrantedAuthority("ROLE_ADMIN"));
+
+        // Act
+        JwtAuthenticationCache.ForwardedHeaders first = cache.forwardedHeaders(jwt, authorities);
+        JwtAuthenticationCache.ForwardedHeaders second = cache.forwardedHeaders(jwt, List.of());
+
+        // Assert
+        assertEquals(new JwtAuthenticationCache.ForwardedHeaders("user-token-a", "ROLE_USER,ROLE_ADMIN", "profile:read"), first);
+        assertSame(first, second);
+    }
+
+    @Test
+    void testEvictSubject_ForcesVerificationAgain() {
+        // Arrange
+        decoder.decode("token-a").block();
+
+        // Act
+        int evicted = cache.evictSubject("user-token-a");
+        decoder.decode("token-a").block();
+
+        // Assert
+        assertEquals(1, evicted);
+        assertEquals(2, verifications.get());
+    }
+
+    private static Jwt jwt(String token, Instant expiresAt) {
+        return Jwt.withTokenValue(token)
+                .header("alg", "HS256")
+                .subject("user-" + token)
+                .issuedAt(expiresAt.minusSeconds(3600))
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.salapp.sb.ats.apigateway.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class JwtHeaderFilterTest {
+
+    private final GatewayFilter filter = new JwtHeaderFilter(
+            new JwtAuthenticationCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(15)))
+            .apply(new JwtHeaderFilter.Config());
+
+    @Test
+    void testAuthenticatedRequestForwardsIdentity() {
+        // Arrange
+        Jwt jwt = Jwt.withTokenValue("token").header("alg", "HS256").subject("user-1")
+                .issuedAt(Instant.now()).expiresAt(Instant.now().plusSeconds(60)).build();
+        JwtAuthenticationToken authentication =
+                new JwtAuthenticationToken(jwt, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/users/profile").header("X-User-Id", "spoofed"));
+
+        // Act
+        HttpHeaders forwarded = forward(exchange.mutate().principal(Mono.just(authentication)).build());
+
+        // Assert
+        assertEquals("user-1", forwarded.getFirst("X-User-Id"));
+        assertEquals("ROLE_USER", forwarded.getFirst("X-Roles"));
+    }
+
+    @Test
+    void testAnonymousRequestHasSpoofedIdentityRemoved() {
+        // Arrange
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/users/activate").header("X-User-Id", "spoofed").header("X-Roles", "ROLE_ADMIN"));
+
+        // Act
+        HttpHeaders forwarded = forward(exchange);
+
+        // Assert
+        assertNull(forwarded.getFirst("X-User-Id"));
+        assertNull(forwarded.getFirst("X-Roles"));
+    }
+
+    private HttpHeaders forward(ServerWebExchange exchange) {
+        AtomicReference<HttpHeaders> forwarded = new AtomicReference<>();
+        filter.filter(exchange, downstream -> {
+            forwarded.set(downstream.getRequest().getHeaders());
+            return Mono.empty();
+        }).block();
+        return forwarded.get();
+    }
+}
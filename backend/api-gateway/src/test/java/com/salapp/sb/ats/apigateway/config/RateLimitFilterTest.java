@@ -0,0 +1,78 @@
+package com.salapp.sb.ats.apigateway.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RateLimitFilterTest {
+
+    private final AtomicInteger forwarded = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private GatewayFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        RateLimitFilter factory = new RateLimitFilter(
+                new InMemoryRateLimitStore(meterRegistry, 1000, Duration.ofMinutes(10)), meterRegistry);
+        RateLimitFilter.Config config = new RateLimitFilter.Config();
+        config.setIpCapacity(2);
+        config.setIpPeriod(Duration.ofMinutes(1));
+        filter = factory.apply(config);
+    }
+
+    @Test
+    void testFilter_RejectsAddressOverItsLimitWithRetryAfter() {
+        // Act
+        MockServerWebExchange first = call("10.0.0.1");
+        MockServerWebExchange second = call("10.0.0.1");
+        MockServerWebExchange third = call("10.0.0.1");
+
+        // Assert
+        assertNull(first.getResponse().getStatusCode());
+        assertNull(second.getResponse().getStatusCode());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, third.getResponse().getStatusCode());
+        assertEquals("30", third.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(2, forwarded.get());
+        assertEquals(1.0, meterRegistry.get("gateway.ratelimit.requests").tag("outcome", "rejected").counter().count());
+    }
+
+    @Test
+    void testFilter_KeepsSeparateBucketsPerAddress() {
+        // Act
+        call("10.0.0.1");
+        call("10.0.0.1");
+        MockServerWebExchange other = call("10.0.0.2");
+
+        // Assert
+        assertNull(other.getResponse().getStatusCode());
+        assertEquals(3, forwarded.get());
+    }
+
+    private MockServerWebExchange call(String address) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/auth/login")
+                .remoteAddress(new InetSocketAddress(address, 50000)));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR,
+                Route.async().id("auth-credentials").uri("lb://auth-server").predicate(e -> true).build());
+        filter.filter(exchange, e -> {
+            forwarded.incrementAndGet();
+            return Mono.empty();
+        }).block();
+        return exchange;
+    }
+}
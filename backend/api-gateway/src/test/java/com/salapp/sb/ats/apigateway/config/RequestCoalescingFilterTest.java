@@ -0,0 +1,128 @@
+package com.salapp.sb.ats.apigateway.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RequestCoalescingFilterTest {
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private GatewayFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new RequestCoalescingFilter(new SimpleMeterRegistry()).apply(new RequestCoalescingFilter.Config());
+    }
+
+    @Test
+    void testConcurrentIdenticalGetsShareOneUpstreamCall() {
+        // Arrange
+        MockServerWebExchange first = exchange("/users/profile/info");
+        MockServerWebExchange second = exchange("/users/profile/info");
+
+        // Act
+        Mono.when(filter.filter(as("user-1", first), upstream(HttpStatus.OK)),
+                filter.filter(as("user-1", second), upstream(HttpStatus.OK))).block();
+
+        // Assert
+        assertEquals(1, upstreamCalls.get());
+        assertEquals("profile-1", first.getResponse().getBodyAsString().block());
+        assertEquals("profile-1", second.getResponse().getBodyAsString().block());
+        assertEquals(HttpStatus.OK, second.getResponse().getStatusCode());
+    }
+
+    @Test
+    void testDifferentUsersAreNotCoalesced() {
+        // Act
+        Mono.when(filter.filter(as("user-1", exchange("/users/profile/info")), upstream(HttpStatus.OK)),
+                filter.filter(as("user-2", exchange("/users/profile/info")), upstream(HttpStatus.OK))).block();
+
+        // Assert
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    void testErrorResponseIsNotShared() {
+        // Arrange
+        MockServerWebExchange second = exchange("/users/profile/info");
+
+        // Act
+        Mono.when(filter.filter(as("user-1", exchange("/users/profile/info")), upstream(HttpStatus.INTERNAL_SERVER_ERROR)),
+                filter.filter(as("user-1", second), upstream(HttpStatus.INTERNAL_SERVER_ERROR))).block();
+
+        // Assert
+        assertEquals(2, upstreamCalls.get());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, second.getResponse().getStatusCode());
+    }
+
+    @Test
+    void testRequestArrivingAfterUncopiedBodyStartedIsProxied() {
+        // Arrange
+        MockServerWebExchange second = exchange("/users/profile/info");
+        GatewayFilterChain streaming = exchange -> {
+            upstreamCalls.incrementAndGet();
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            return response.writeWith(Flux.just("a", "b")
+                    .delayElements(Duration.ofMillis(100))
+                    .map(chunk -> response.bufferFactory().wrap(chunk.getBytes(StandardCharsets.UTF_8))));
+        };
+
+        // Act
+        Mono.when(filter.filter(as("user-1", exchange("/users/profile/info")), streaming),
+                Mono.delay(Duration.ofMillis(50)).then(filter.filter(as("user-1", second), upstream(HttpStatus.OK)))).block();
+
+        // Assert
+        assertEquals(2, upstreamCalls.get());
+        assertEquals("profile-2", second.getResponse().getBodyAsString().block());
+    }
+
+    private GatewayFilterChain upstream(HttpStatus status) {
+        return exchange -> Mono.delay(Duration.ofMillis(100)).then(Mono.defer(() -> {
+            int call = upstreamCalls.incrementAndGet();
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(status);
+            byte[] body = ("profile-" + call).getBytes(StandardCharsets.UTF_8);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+        }));
+    }
+
+    @Test
+    void testClientSuppliedUserHeaderIsNotPartOfTheKey() {
+        // Arrange
+        MockServerWebExchange spoofed = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/users/profile/info").header("X-User-Id", "user-2"));
+
+        // Act
+        Mono.when(filter.filter(as("user-1", exchange("/users/profile/info")), upstream(HttpStatus.OK)),
+                filter.filter(as("user-1", spoofed), upstream(HttpStatus.OK))).block();
+
+        // Assert
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    private static MockServerWebExchange exchange(String path) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path));
+    }
+
+    private static ServerWebExchange as(String userId, MockServerWebExchange exchange) {
+        Principal principal = () -> userId;
+        return exchange.mutate().principal(Mono.just(principal)).build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.salapp.sb.ats.apigateway.config;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Checks the access rules of {@link SecurityConfig} with tokens signed by the shared secret.
+ */
+@SpringBootTest(properties = {
+        // Serves actuator on the same port as the routes, so one client reaches both
+        "management.server.port=",
+        "management.server.ssl.enabled=false",
+        "eureka.client.enabled=false"
+})
+@AutoConfigureWebTestClient
+class SecurityConfigTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Value("${jwt.secret}")
+    private String jwtSecret;
+
+    @Test
+    void testJwtCacheEvictionRequiresAuthentication() {
+        // Act & Assert
+        webTestClient.delete().uri("/actuator/jwtcache")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    void testJwtCacheEvictionIsForbiddenToUsers() {
+        // Act & Assert
+        webTestClient.delete().uri("/actuator/jwtcache/user-1")
+                .headers(headers -> headers.setBearerAuth(token("ROLE_USER")))
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+
+    @Test
+    void testJwtCacheEvictionIsAllowedToAdmins() {
+        // Act & Assert
+        webTestClient.delete().uri("/actuator/jwtcache/user-1")
+                .headers(headers -> headers.setBearerAuth(token("ROLE_ADMIN")))
+                .exchange()
+                .expectStatus().is2xxSuccessful();
+    }
+
+    @Test
+    void testBulkUserEndpointsAreForbiddenToUsers() {
+        // Act & Assert
+        for (String path : List.of("/users/page", "/users/export", "/users/import")) {
+            webTestClient.get().uri(path)
+                    .headers(headers -> headers.setBearerAuth(token("ROLE_USER")))
+                    .exchange()
+                    .expectStatus().isForbidden();
+        }
+    }
+
+    @Test
+    void testHealthStaysOpen() {
+        // Act & Assert
+        webTestClient.get().uri("/actuator/health")
+                .exchange()
+                .expectStatus().value(status -> assertNotEquals(401, status));
+    }
+
+    private String token(String role) {
+        return Jwts.builder()
+                .setSubject("user-1")
+                .claim("roles", List.of(role))
+                .claim("authorities", List.of())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(jwtSecret.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
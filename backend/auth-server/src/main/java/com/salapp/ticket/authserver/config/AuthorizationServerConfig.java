@@ -1,6 +1,7 @@
 package com.salapp.ticket.authserver.config;
 
 import com.salapp.ticket.authserver.repository.UserRepository;
+import com.salapp.ticket.authserver.service.RolePermissionCache;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -41,7 +42,6 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import javax.crypto.SecretKey;
 import java.util.List;
-import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -54,9 +54,11 @@ public class AuthorizationServerConfig {
     @Value("${jwt.secret}")
     private String jwtSecret;
     private final UserRepository userRepository;
+    private final RolePermissionCache rolePermissionCache;
 
-    public AuthorizationServerConfig(UserRepository userRepository) {
+    public AuthorizationServerConfig(UserRepository userRepository, RolePermissionCache rolePermissionCache) {
         this.userRepository = userRepository;
+        this.rolePermissionCache = rolePermissionCache;
     }
 
 /*    @Bean
@@ -123,19 +125,9 @@ public class AuthorizationServerConfig {
     public UserDetailsService userDetailsService() {
         return username -> userRepository.findByEmail(username)
                 .map(user -> {
-                    log.info("user found roles: {}", user.getRoles());
-                    List<GrantedAuthority> authorities = user.getRoles().stream()
-                            .filter(Objects::nonNull)
-                            .flatMap(role -> {
-                                Stream<String> roleAuth = Stream.of("ROLE_" + role.getName().toUpperCase());
-                                Stream<String> permAuth = role.getPermissions() != null
-                                        ? role.getPermissions().stream()
-                                        .filter(Objects::nonNull)
-                                        .map(perm -> perm.getName().toUpperCase())
-                                        : Stream.empty();
-
-                                return Stream.concat(roleAuth, permAuth);
-                            })
+                    RolePermissionCache.UserGrants grants = rolePermissionCache.grantsForUser(user.getId());
+                    log.info("user found roles: {}", grants.roles());
+                    List<GrantedAuthority> authorities = Stream.concat(grants.roles().stream(), grants.permissions().stream())
                             .map(SimpleGrantedAuthority::new)
                             .collect(Collectors.toList());
 
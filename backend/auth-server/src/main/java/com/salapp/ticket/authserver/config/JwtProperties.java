@@ -0,0 +1,23 @@
+package com.salapp.ticket.authserver.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * Signing key configuration for issued JWTs.
+ *
+ * @param secret         HMAC secret used to sign new tokens
+ * @param keyId          {@code kid} header written on new tokens; identifies {@code secret}
+ * @param retiredSecrets previous secrets by {@code kid}, still accepted for verification during rotation
+ */
+@ConfigurationProperties(prefix = "jwt")
+public record JwtProperties(String secret, String keyId, Map<String, String> retiredSecrets) {
+
+    public JwtProperties {
+        if (keyId == null || keyId.isBlank()) {
+            keyId = "primary";
+        }
+        retiredSecrets = retiredSecrets != null ? Map.copyOf(retiredSecrets) : Map.of();
+    }
+}
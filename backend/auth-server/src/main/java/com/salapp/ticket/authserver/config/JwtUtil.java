@@ -1,98 +1,107 @@
 package com.salapp.ticket.authserver.config;
 
-import com.salapp.ticket.authserver.model.Permission;
-import com.salapp.ticket.authserver.model.Role;
 import com.salapp.ticket.authserver.model.User;
+import com.salapp.ticket.authserver.service.RolePermissionCache;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
+import java.security.Key;
 import java.util.*;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
+/**
+ * Issues and validates the HS256 access tokens handed out after 2FA verification.
+ * <p>
+ * Signing keys and the parser are built once at startup; both are immutable and shared across
+ * request threads. New tokens carry a {@code kid} header so that secrets listed under
+ * {@code jwt.retired-secrets} keep verifying while clients roll over to the current key.
+ * </p>
+ */
 @Slf4j
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    private static final String ISSUER = "http://localhost:8080/auth";
+    private static final long TOKEN_TTL_MILLIS = 3_600_000; // 1 hour
 
-    private long jwtExpiration;
-    private long sessionExpiration;
+    private final String activeKeyId;
+    private final SecretKey signingKey;
+    private final Map<String, Key> verificationKeys;
+    private final JwtParser parser;
+    private final RolePermissionCache rolePermissionCache;
+
+    public JwtUtil(JwtProperties properties, RolePermissionCache rolePermissionCache) {
+        this.rolePermissionCache = rolePermissionCache;
+        this.activeKeyId = properties.keyId();
+        this.signingKey = Keys.hmacShaKeyFor(properties.secret().getBytes());
+
+        Map<String, Key> keys = new HashMap<>();
+        properties.retiredSecrets().forEach((kid, secret) -> keys.put(kid, Keys.hmacShaKeyFor(secret.getBytes())));
+        keys.put(activeKeyId, signingKey);
+        this.verificationKeys = Map.copyOf(keys);
+
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveKey(header.getKeyId());
+                    }
+                })
+                .build();
+    }
 
     public String generateJwtToken(User user) {
-        List<String> roles = new ArrayList<>();
-        List<String> authorities = new ArrayList<>();
         log.info("Generate JWT Token for user: {}", user.getId());
 
-        // Populate roles and authorities
-        for (Role role : user.getRoles()) {
-            String roleName = "ROLE_" + role.getName().toUpperCase(); // e.g., ROLE_USER, ROLE_ADMIN
-            roles.add(roleName);
-            for (Permission permission : role.getPermissions()) {
-                authorities.add(permission.getName().toUpperCase()); // e.g., READ, WRITE
-            }
-        }
-
-        // Remove duplicates
-        Set<String> uniqueRoles = Set.copyOf(roles);
-        Set<String> uniqueAuthorities = Set.copyOf(authorities);
+        // Roles (e.g., ROLE_USER) and permissions (e.g., READ) come precomputed from the role cache
+        RolePermissionCache.UserGrants grants = rolePermissionCache.grantsForUser(user.getId());
 
+        long now = System.currentTimeMillis();
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, activeKeyId)  // Key used for signing
                 .setSubject(user.getId())                          // User ID as subject
                 .claim("email", user.getEmail())                  // Email claim
-                .claim("roles", uniqueRoles)                      // Roles claim
-                .claim("authorities", uniqueAuthorities)          // Authorities (permissions) claim
-                .setIssuer("http://localhost:8080/auth")          // Issuer
-                .setIssuedAt(new Date())                          // Issued at
-                .setExpiration(new Date(System.currentTimeMillis() + 3_600_000)) // 1-hour expiration
-                .signWith(Keys.hmacShaKeyFor(jwtSecret.getBytes()), SignatureAlgorithm.HS256) // Signing
+                .claim("roles", grants.roles())                   // Roles claim
+                .claim("authorities", grants.permissions())       // Authorities (permissions) claim
+                .setIssuer(ISSUER)                                // Issuer
+                .setIssuedAt(new Date(now))                       // Issued at
+                .setExpiration(new Date(now + TOKEN_TTL_MILLIS))  // 1-hour expiration
+                .signWith(signingKey, SignatureAlgorithm.HS256)   // Signing
                 .compact();
     }
 
+    /**
+     * Verifies signature and expiry. Claims are not converted into authorities here; callers that need
+     * them should read the decoded token instead.
+     */
     public boolean validateToken(String token) {
         try {
-            log.info("Validating JWT token");
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(jwtSecret.getBytes())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-
-            if (claims.getExpiration().before(new Date())) {
-                log.warn("Token has expired");
-                return false;
-            }
-
-            String username = claims.getSubject();
-            @SuppressWarnings("unchecked")
-            List<String> authorities = claims.get("authorities", List.class);
-
-            List<GrantedAuthority> grantedAuthorities = authorities != null
-                    ? authorities.stream()
-                    .filter(Objects::nonNull)
-                    .map(SimpleGrantedAuthority::new)
-                    .collect(Collectors.toList())
-                    : Collections.emptyList();
-
-            // Avoid setting SecurityContextHolder if not needed here
-            //Authentication auth = new UsernamePasswordAuthenticationToken(username, null, grantedAuthorities);
-            //SecurityContextHolder.getContext().setAuthentication(auth);
+            parser.parseClaimsJws(token);
             return true;
-        } catch (JwtException e) {
+        } catch (JwtException | IllegalArgumentException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
             return false;
         }
     }
+
+    private Key resolveKey(String keyId) {
+        // Tokens issued before kid headers were introduced were signed with the current secret
+        if (keyId == null) {
+            return signingKey;
+        }
+        Key key = verificationKeys.get(keyId);
+        if (key == null) {
+            throw new UnsupportedJwtException("Unknown signing key id: " + keyId);
+        }
+        return key;
+    }
 }
@@ -12,7 +12,6 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -42,9 +41,6 @@ public class AuthController {
     private final RoleService roleService;
     private final RestTemplate restTemplate;
 
-    @Value("${service.user.uri}")
-    private String URI_USERS_SERVICE;
-
     @Value("${api.gateway}")
     private String API_GATEWAY;
 
@@ -67,8 +63,12 @@ public class AuthController {
             User user = userService.findByUsername(username);
             log.info("user found: {}", user.getId());
 
-            if (!validateAccountActivation(user.getId())) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Account not activated");
+            // Activation is replicated from user-service; only ask it directly while the replica says otherwise
+            if (!user.isActive()) {
+                if (!validateAccountActivation(user.getId())) {
+                    return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Account not activated");
+                }
+                userService.markActive(user.getId());
             }
 
 
@@ -100,11 +100,7 @@ public class AuthController {
         try {
             String qrCodeData = twoFactorService.generateQrCodeData(user.getEmail(), user.getTotpSecret());
 
-            // Call User-Service to create profile
-            RestTemplate restTemplate = new RestTemplate();
-            HttpEntity<UserProfileRequest> userProfileEntity = new HttpEntity<>(new UserProfileRequest(user.getId(), request.email()));
-            restTemplate.postForEntity(URI_USERS_SERVICE, userProfileEntity, Void.class);
-
+            // The user-service profile is created asynchronously from the outbox
             log.info("User created successfully");
             return ResponseEntity.status(HttpStatus.CREATED.value()).body("User created successfully");
         } catch (QrGenerationException e) {
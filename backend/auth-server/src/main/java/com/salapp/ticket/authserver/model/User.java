@@ -35,6 +35,10 @@ public class User {
     private String totpSecret;  // For 2FA
     private boolean twoFactorEnabled;
 
+    // Replica of the user-service activation status, updated from account events
+    @Column(columnDefinition = "boolean default false")
+    private boolean active;
+
     @Temporal(TemporalType.TIMESTAMP)
     @CreatedDate
     private Date createdAt;
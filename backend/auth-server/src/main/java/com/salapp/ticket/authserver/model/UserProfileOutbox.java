@@ -0,0 +1,53 @@
+package com.salapp.ticket.authserver.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.Instant;
+
+/**
+ * Pending profile creation in user-service, written in the same transaction as the auth {@link User}.
+ * Rows are removed once user-service has acknowledged the profile, and parked with {@link #failedAt} once it has
+ * rejected it.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "user_profile_outbox", indexes = {
+        @Index(name = "idx_user_profile_outbox_next_attempt", columnList = "next_attempt_at"),
+})
+@ToString(onlyExplicitlyIncluded = true)
+public class UserProfileOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @ToString.Include
+    private Long id;
+
+    @ToString.Include
+    @Column(nullable = false, unique = true)
+    private String userId;
+
+    @Column(nullable = false)
+    private String email;
+
+    @ToString.Include
+    private int attempts;
+
+    @Column(nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(length = 512)
+    private String lastError;
+
+    /**
+     * When user-service permanently rejected the profile; parked rows are no longer relayed.
+     */
+    private Instant failedAt;
+
+}
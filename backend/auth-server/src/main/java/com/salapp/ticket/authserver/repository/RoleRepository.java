@@ -1,10 +1,17 @@
 package com.salapp.ticket.authserver.repository;
 
 import com.salapp.ticket.authserver.model.Role;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
-public interface RoleRepository extends JpaRepository<Role, Integer> {
+public interface RoleRepository extends JpaRepository<Role, Long> {
     Optional<Role> findByName(String name);
+
+    @EntityGraph(attributePaths = {"permissions"})
+    @Query("select r from Role r")
+    List<Role> findAllWithPermissions();
 }
@@ -0,0 +1,23 @@
+package com.salapp.ticket.authserver.repository;
+
+import com.salapp.ticket.authserver.model.UserProfileOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface UserProfileOutboxRepository extends JpaRepository<UserProfileOutbox, Long> {
+
+    /**
+     * Locks due rows that are not parked, skipping those already claimed by another instance. Must run inside a
+     * transaction.
+     */
+    @Query(value = "select * from user_profile_outbox where failed_at is null and next_attempt_at <= :now " +
+            "order by id limit :limit for update skip locked", nativeQuery = true)
+    List<UserProfileOutbox> lockDue(@Param("now") Instant now, @Param("limit") int limit);
+
+}
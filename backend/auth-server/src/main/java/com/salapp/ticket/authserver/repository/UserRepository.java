@@ -1,17 +1,26 @@
 package com.salapp.ticket.authserver.repository;
 
 import com.salapp.ticket.authserver.model.User;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
     Optional<User> findByGoogleId(String googleId);
 
-    @EntityGraph(attributePaths = {"roles", "roles.permissions"})
     Optional<User> findByEmail(String email);
 
+    @Query("select r.id from User u join u.roles r where u.id = :userId")
+    List<Long> findRoleIdsByUserId(@Param("userId") String userId);
+
+    @Modifying
+    @Query("update User u set u.active = true where u.id = :userId and u.active = false")
+    int markActive(@Param("userId") String userId);
+
 }
@@ -0,0 +1,37 @@
+package com.salapp.ticket.authserver.service;
+
+import com.salapp.career.launch.shared.library.UserActivatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps the local {@code active} flag of auth users in sync with activations done in user-service.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class AccountEventsListener {
+
+    private final UserService userService;
+
+    @KafkaListener(
+            topics = "${spring.kafka.topic.account-events}",
+            groupId = "${spring.kafka.consumer.group-id}"
+    )
+    public void onUserActivated(ConsumerRecord<String, UserActivatedEvent> record) {
+        UserActivatedEvent event = record.value();
+        if (event == null || event.getUserId() == null) {
+            log.warn("Ignoring account event without user id at offset {}", record.offset());
+            return;
+        }
+
+        if (userService.markActive(event.getUserId())) {
+            log.info("User {} marked active", event.getUserId());
+        } else {
+            log.debug("User {} already active or unknown", event.getUserId());
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.salapp.ticket.authserver.service;
+
+import com.salapp.ticket.authserver.model.Permission;
+import com.salapp.ticket.authserver.model.Role;
+import com.salapp.ticket.authserver.repository.RoleRepository;
+import com.salapp.ticket.authserver.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory closure of every role to its {@code ROLE_*} name and permission names.
+ * <p>
+ * Roles and permissions change rarely, so the whole role graph is loaded in one query and kept as an
+ * immutable snapshot. Token and authority building only has to read the user's role ids, which are never
+ * cached, so changing a user's roles needs no invalidation. Saved roles are announced with a
+ * {@link RolesChangedEvent}, which calls {@link #invalidate()} once the transaction has committed; it bumps the
+ * version and drops the snapshot, and a reload that started before an invalidation is discarded rather than
+ * published. A role id missing from a current snapshot also forces a reload, so a role committed after the
+ * snapshot was taken is picked up even if its invalidation has not arrived yet.
+ * </p>
+ */
+@Slf4j
+@Service
+public class RolePermissionCache {
+
+    private final RoleRepository roleRepository;
+    private final UserRepository userRepository;
+    private final AtomicLong version = new AtomicLong();
+    // Not synchronized: the reload runs a query, which would pin a virtual thread to its carrier
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private final Counter hits;
+    private final Counter misses;
+
+    private volatile Snapshot snapshot = new Snapshot(-1, Map.of());
+
+    public RolePermissionCache(RoleRepository roleRepository, UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.roleRepository = roleRepository;
+        this.userRepository = userRepository;
+        this.hits = Counter.builder("auth.role.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("auth.role.cache.requests").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("auth.role.cache.size", this, cache -> cache.snapshot.grants().size()).register(meterRegistry);
+        Gauge.builder("auth.role.cache.version", version, AtomicLong::get).register(meterRegistry);
+    }
+
+    /**
+     * Precomputed authorities of a single role.
+     *
+     * @param roleName    interned {@code ROLE_*} authority
+     * @param permissions interned, upper-cased permission names
+     */
+    public record RoleGrant(String roleName, Set<String> permissions) {
+    }
+
+    /**
+     * Union of the grants of all roles held by a user.
+     */
+    public record UserGrants(Set<String> roles, Set<String> permissions) {
+    }
+
+    private record Snapshot(long version, Map<Long, RoleGrant> grants) {
+    }
+
+    public UserGrants grantsForUser(String userId) {
+        return grantsFor(userRepository.findRoleIdsByUserId(userId));
+    }
+
+    public UserGrants grantsFor(Collection<Long> roleIds) {
+        Map<Long, RoleGrant> grants = snapshot.grants();
+        if (snapshot.version() == version.get() && grants.keySet().containsAll(roleIds)) {
+            hits.increment();
+        } else {
+            misses.increment();
+            grants = reload(roleIds);
+        }
+
+        Set<String> roles = new HashSet<>();
+        Set<String> permissions = new HashSet<>();
+        for (Long roleId : roleIds) {
+            RoleGrant grant = grants.get(roleId);
+            if (grant != null) {
+                roles.add(grant.roleName());
+                permissions.addAll(grant.permissions());
+            }
+        }
+        return new UserGrants(roles, permissions);
+    }
+
+    // fallbackExecution covers roles saved outside a transaction, which are already committed when published
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRolesChanged(RolesChangedEvent event) {
+        invalidate();
+    }
+
+    public void invalidate() {
+        long newVersion = version.incrementAndGet();
+        snapshot = new Snapshot(-1, Map.of());
+        log.debug("Role permission cache invalidated, version {}", newVersion);
+    }
+
+    private Map<Long, RoleGrant> reload(Collection<Long> roleIds) {
+        reloadLock.lock();
+        try {
+            return loadSnapshot(roleIds);
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private Map<Long, RoleGrant> loadSnapshot(Collection<Long> roleIds) {
+        long loadVersion = version.get();
+        Snapshot current = snapshot;
+        if (current.version() == loadVersion && current.grants().keySet().containsAll(roleIds)) {
+            // Another thread refreshed while we were waiting for the lock
+            return current.grants();
+        }
+
+        Map<Long, RoleGrant> grants = new HashMap<>();
+        for (Role role : roleRepository.findAllWithPermissions()) {
+            Set<String> permissions = new HashSet<>();
+            for (Permission permission : role.getPermissions()) {
+                if (permission != null) {
+                    permissions.add(permission.getName().toUpperCase().intern());
+                }
+            }
+            String roleName = ("ROLE_" + role.getName().toUpperCase()).intern();
+            grants.put(role.getId(), new RoleGrant(roleName, Set.copyOf(permissions)));
+        }
+
+        Map<Long, RoleGrant> loaded = Map.copyOf(grants);
+        if (version.get() == loadVersion) {
+            snapshot = new Snapshot(loadVersion, loaded);
+        }
+        log.debug("Loaded {} role grants at version {}", loaded.size(), loadVersion);
+        return loaded;
+    }
+}
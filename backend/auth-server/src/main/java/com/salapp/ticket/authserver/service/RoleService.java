@@ -3,6 +3,7 @@ package com.salapp.ticket.authserver.service;
 import com.salapp.ticket.authserver.model.Role;
 import com.salapp.ticket.authserver.repository.RoleRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -12,9 +13,17 @@ import java.util.Optional;
 public class RoleService {
 
     private final RoleRepository roleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Optional<Role> findByName(String name) {
         return roleRepository.findByName(name);
     }
 
+    public Role save(Role role) {
+        Role saved = roleRepository.save(role);
+        // Invalidates the role cache after commit, so a concurrent reload cannot pin a snapshot without this role
+        eventPublisher.publishEvent(new RolesChangedEvent(saved.getId()));
+        return saved;
+    }
+
 }
@@ -0,0 +1,8 @@
+package com.salapp.ticket.authserver.service;
+
+/**
+ * Published whenever a role or its permissions are saved, so the {@link RolePermissionCache} can be dropped once the
+ * change is committed.
+ */
+public record RolesChangedEvent(Long roleId) {
+}
@@ -0,0 +1,129 @@
+package com.salapp.ticket.authserver.service;
+
+import com.salapp.ticket.authserver.dto.UserProfileRequest;
+import com.salapp.ticket.authserver.model.UserProfileOutbox;
+import com.salapp.ticket.authserver.repository.UserProfileOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Delivers pending {@link UserProfileOutbox} rows to user-service.
+ * <p>
+ * Due rows are claimed with {@code FOR UPDATE SKIP LOCKED} and leased by pushing their next attempt
+ * forward, so the HTTP calls run outside the transaction and several auth-server instances can relay
+ * concurrently. Failed deliveries back off exponentially. A 4xx other than 408 or 429 would be returned again on
+ * every retry, so that row is parked with its error instead. user-service treats a repeated
+ * {@link UserProfileRequest#id()} as already created, so a redelivery after a lost acknowledgement is harmless.
+ * </p>
+ */
+@Slf4j
+@Service
+public class UserProfileRelay {
+
+    private static final Duration LEASE = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+
+    private final UserProfileOutboxRepository outboxRepository;
+    private final RestTemplate restTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String userServiceUri;
+    private final int batchSize;
+
+    public UserProfileRelay(UserProfileOutboxRepository outboxRepository,
+                            RestTemplate restTemplate,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${service.user.uri}") String userServiceUri,
+                            @Value("${service.user.outbox.batch-size:50}") int batchSize) {
+        this.outboxRepository = outboxRepository;
+        this.restTemplate = restTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.userServiceUri = userServiceUri;
+        this.batchSize = batchSize;
+    }
+
+    public UserProfileOutbox enqueue(String userId, String email) {
+        Instant now = Instant.now();
+        UserProfileOutbox entry = new UserProfileOutbox();
+        entry.setUserId(userId);
+        entry.setEmail(email);
+        entry.setCreatedAt(now);
+        entry.setNextAttemptAt(now);
+        return outboxRepository.save(entry);
+    }
+
+    @Scheduled(fixedDelayString = "${service.user.outbox.poll-interval-ms:1000}")
+    public void relay() {
+        List<UserProfileOutbox> due = claimDue();
+        for (UserProfileOutbox entry : due) {
+            deliver(entry);
+        }
+    }
+
+    List<UserProfileOutbox> claimDue() {
+        List<UserProfileOutbox> claimed = transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            List<UserProfileOutbox> rows = outboxRepository.lockDue(now, batchSize);
+            rows.forEach(row -> row.setNextAttemptAt(now.plus(LEASE)));
+            return outboxRepository.saveAll(rows);
+        });
+        return claimed != null ? claimed : List.of();
+    }
+
+    void deliver(UserProfileOutbox entry) {
+        try {
+            restTemplate.postForEntity(userServiceUri, new UserProfileRequest(entry.getUserId(), entry.getEmail()), Void.class);
+            outboxRepository.deleteById(entry.getId());
+            log.info("User profile created for {}", entry.getUserId());
+        } catch (RestClientException e) {
+            if (e instanceof HttpClientErrorException clientError && isPermanent(clientError)) {
+                park(entry, clientError);
+            } else {
+                reschedule(entry, e);
+            }
+        }
+    }
+
+    private void park(UserProfileOutbox entry, HttpClientErrorException e) {
+        entry.setAttempts(entry.getAttempts() + 1);
+        entry.setFailedAt(Instant.now());
+        entry.setLastError(truncate(e.getMessage()));
+        outboxRepository.save(entry);
+        log.error("User profile creation for {} rejected by user-service, parking it: {}", entry.getUserId(), e.getMessage());
+    }
+
+    private void reschedule(UserProfileOutbox entry, RestClientException e) {
+        int attempts = entry.getAttempts() + 1;
+        entry.setAttempts(attempts);
+        entry.setNextAttemptAt(Instant.now().plus(backoff(attempts)));
+        entry.setLastError(truncate(e.getMessage()));
+        outboxRepository.save(entry);
+        log.warn("User profile creation for {} failed (attempt {}): {}", entry.getUserId(), attempts, e.getMessage());
+    }
+
+    private static boolean isPermanent(HttpClientErrorException e) {
+        return e.getStatusCode() != HttpStatus.REQUEST_TIMEOUT && e.getStatusCode() != HttpStatus.TOO_MANY_REQUESTS;
+    }
+
+    static Duration backoff(int attempts) {
+        Duration delay = Duration.ofSeconds(1L << Math.min(attempts, 16));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > 512 ? message.substring(0, 512) : message;
+    }
+}
@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashSet;
 import java.util.Optional;
@@ -23,9 +24,16 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final TwoFactorService twoFactorService;
     private final RoleRepository roleRepository;
+    private final RoleService roleService;
+    private final UserProfileRelay userProfileRelay;
 
     private static final String DEFAULT_ROLE = "USER";
 
+    /**
+     * Persists the user and queues its user-service profile in the same transaction; the profile is
+     * created asynchronously by {@link UserProfileRelay}.
+     */
+    @Transactional
     public User registerLocalUser(String email, String password) {
         User user = new User();
         user.setId(java.util.UUID.randomUUID().toString());
@@ -40,13 +48,14 @@ public class UserService {
                 .orElseGet(() -> {
                     Role newRole = new Role();
                     newRole.setName(DEFAULT_ROLE);
-                    return roleRepository.save(newRole);
+                    return roleService.save(newRole);
                 });
         roles.add(defaultRole);
         user.setRoles(roles);
 
-
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        userProfileRelay.enqueue(savedUser.getId(), savedUser.getEmail());
+        return savedUser;
     }
 
     public User findOrCreateGoogleUser(String googleId, String email) {
@@ -65,7 +74,7 @@ public class UserService {
                             .orElseGet(() -> {
                                 Role newRole = new Role();
                                 newRole.setName(DEFAULT_ROLE);
-                                return roleRepository.save(newRole);
+                                return roleService.save(newRole);
                             });
                     roles.add(defaultRole);
                     user.setRoles(roles);
@@ -92,12 +101,22 @@ public class UserService {
         userRepository.save(user);
     }
 
+    /**
+     * Records that the account was activated in user-service. Idempotent, so redelivered events are harmless.
+     *
+     * @return {@code true} if the local flag changed
+     */
+    @Transactional
+    public boolean markActive(String userId) {
+        return userRepository.markActive(userId) > 0;
+    }
+
     @PostConstruct
     public void initDefaultRoles() {
         if (roleRepository.findByName(DEFAULT_ROLE).isEmpty()) {
             Role defaultRole = new Role();
             defaultRole.setName(DEFAULT_ROLE);
-            roleRepository.save(defaultRole);
+            roleService.save(defaultRole);
             log.info("Creating default role: {}", DEFAULT_ROLE);
         }
     }
@@ -0,0 +1,60 @@
+package com.salapp.ticket.authserver.config;
+
+import com.salapp.ticket.authserver.model.User;
+import com.salapp.ticket.authserver.service.RolePermissionCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JwtUtilTest {
+
+    private static final String OLD_SECRET = "Q2FyZWVyTGF1bmNoLW9sZC1zZWNyZXQta2V5LTEyMzQ1";
+    private static final String NEW_SECRET = "Zr15bQMDn+YTocPI52Td+ZhNcJmPJG1CC9hfK8iApDU=";
+
+    private RolePermissionCache rolePermissionCache;
+
+    @BeforeEach
+    void setUp() {
+        rolePermissionCache = mock(RolePermissionCache.class);
+        when(rolePermissionCache.grantsForUser(anyString()))
+                .thenReturn(new RolePermissionCache.UserGrants(Set.of("ROLE_USER"), Set.of()));
+    }
+
+    @Test
+    void testTokenSignedWithRetiredKeyStillValidatesAfterRotation() {
+        // Arrange
+        JwtUtil beforeRotation = new JwtUtil(new JwtProperties(OLD_SECRET, "k1", null), rolePermissionCache);
+        JwtUtil afterRotation = new JwtUtil(new JwtProperties(NEW_SECRET, "k2", Map.of("k1", OLD_SECRET)), rolePermissionCache);
+        String oldToken = beforeRotation.generateJwtToken(user());
+
+        // Act & Assert
+        assertTrue(afterRotation.validateToken(oldToken));
+        assertTrue(afterRotation.validateToken(afterRotation.generateJwtToken(user())));
+    }
+
+    @Test
+    void testTokenFromUnknownOrDroppedKeyIsRejected() {
+        // Arrange
+        JwtUtil issuer = new JwtUtil(new JwtProperties(OLD_SECRET, "k1", null), rolePermissionCache);
+        JwtUtil verifier = new JwtUtil(new JwtProperties(NEW_SECRET, "k2", null), rolePermissionCache);
+
+        // Act & Assert
+        assertFalse(verifier.validateToken(issuer.generateJwtToken(user())));
+        assertFalse(verifier.validateToken("not-a-jwt"));
+    }
+
+    private User user() {
+        User user = new User();
+        user.setId("user-1");
+        user.setEmail("user@example.com");
+        return user;
+    }
+}
@@ -0,0 +1,78 @@
+package com.salapp.ticket.authserver.service;
+
+import com.salapp.ticket.authserver.model.Permission;
+import com.salapp.ticket.authserver.model.Role;
+import com.salapp.ticket.authserver.repository.RoleRepository;
+import com.salapp.ticket.authserver.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RolePermissionCacheTest {
+
+    private RoleRepository roleRepository;
+    private RolePermissionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        roleRepository = mock(RoleRepository.class);
+        cache = new RolePermissionCache(roleRepository, mock(UserRepository.class), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testGrantsAreLoadedOnceAndReloadedAfterInvalidate() {
+        // Arrange
+        when(roleRepository.findAllWithPermissions())
+                .thenReturn(List.of(role(1L, "user", "read")))
+                .thenReturn(List.of(role(1L, "user", "read", "write")));
+
+        // Act
+        RolePermissionCache.UserGrants first = cache.grantsFor(List.of(1L));
+        RolePermissionCache.UserGrants cached = cache.grantsFor(List.of(1L));
+        cache.invalidate();
+        RolePermissionCache.UserGrants reloaded = cache.grantsFor(List.of(1L));
+
+        // Assert
+        assertEquals(Set.of("ROLE_USER"), first.roles());
+        assertEquals(Set.of("READ"), cached.permissions());
+        assertEquals(Set.of("READ", "WRITE"), reloaded.permissions());
+        verify(roleRepository, times(2)).findAllWithPermissions();
+    }
+
+    @Test
+    void testMissingRoleForcesReloadAtCurrentVersion() {
+        // Arrange
+        when(roleRepository.findAllWithPermissions())
+                .thenReturn(List.of(role(1L, "user", "read")))
+                .thenReturn(List.of(role(1L, "user", "read"), role(2L, "admin", "write")));
+        cache.grantsFor(List.of(1L));
+
+        // Act
+        RolePermissionCache.UserGrants grants = cache.grantsFor(List.of(1L, 2L));
+
+        // Assert
+        assertEquals(Set.of("ROLE_USER", "ROLE_ADMIN"), grants.roles());
+        verify(roleRepository, times(2)).findAllWithPermissions();
+    }
+
+    private Role role(Long id, String name, String... permissionNames) {
+        Role role = new Role();
+        role.setId(id);
+        role.setName(name);
+        for (String permissionName : permissionNames) {
+            Permission permission = new Permission();
+            permission.setName(permissionName);
+            role.getPermissions().add(permission);
+        }
+        return role;
+    }
+}
@@ -0,0 +1,115 @@
+package com.salapp.ticket.authserver.service;
+
+import com.salapp.ticket.authserver.dto.UserProfileRequest;
+import com.salapp.ticket.authserver.model.UserProfileOutbox;
+import com.salapp.ticket.authserver.repository.UserProfileOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserProfileRelayTest {
+
+    private static final String URI = "http://user-service/users/register";
+
+    private UserProfileOutboxRepository outboxRepository;
+    private RestTemplate restTemplate;
+    private UserProfileRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(UserProfileOutboxRepository.class);
+        restTemplate = mock(RestTemplate.class);
+        relay = new UserProfileRelay(outboxRepository, restTemplate, mock(TransactionTemplate.class), URI, 50);
+    }
+
+    @Test
+    void testDeliveredEntryIsDeleted() {
+        // Arrange
+        UserProfileOutbox entry = entry();
+
+        // Act
+        relay.deliver(entry);
+
+        // Assert
+        verify(restTemplate).postForEntity(URI, new UserProfileRequest("user-1", "user@example.com"), Void.class);
+        verify(outboxRepository).deleteById(7L);
+    }
+
+    @Test
+    void testFailedDeliveryIsRescheduledWithBackoff() {
+        // Arrange
+        UserProfileOutbox entry = entry();
+        when(restTemplate.postForEntity(eq(URI), any(), eq(Void.class)))
+                .thenThrow(new ResourceAccessException("Read timed out"));
+
+        // Act
+        relay.deliver(entry);
+
+        // Assert
+        assertEquals(1, entry.getAttempts());
+        assertTrue(entry.getNextAttemptAt().isAfter(Instant.now()));
+        verify(outboxRepository).save(entry);
+        verify(outboxRepository, never()).deleteById(any());
+        assertEquals(Duration.ofMinutes(5), UserProfileRelay.backoff(30));
+    }
+
+    @Test
+    void testRejectedDeliveryIsParked() {
+        // Arrange
+        UserProfileOutbox entry = entry();
+        when(restTemplate.postForEntity(eq(URI), any(), eq(Void.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, null, null));
+
+        // Act
+        relay.deliver(entry);
+
+        // Assert
+        assertNotNull(entry.getFailedAt());
+        assertEquals(1, entry.getAttempts());
+        verify(outboxRepository).save(entry);
+        verify(outboxRepository, never()).deleteById(any());
+    }
+
+    @Test
+    void testThrottledDeliveryIsRescheduled() {
+        // Arrange
+        UserProfileOutbox entry = entry();
+        when(restTemplate.postForEntity(eq(URI), any(), eq(Void.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null));
+
+        // Act
+        relay.deliver(entry);
+
+        // Assert
+        assertNull(entry.getFailedAt());
+        assertTrue(entry.getNextAttemptAt().isAfter(Instant.now()));
+    }
+
+    private UserProfileOutbox entry() {
+        UserProfileOutbox entry = new UserProfileOutbox();
+        entry.setId(7L);
+        entry.setUserId("user-1");
+        entry.setEmail("user@example.com");
+        entry.setCreatedAt(Instant.now());
+        entry.setNextAttemptAt(Instant.now());
+        return entry;
+    }
+}
@@ -0,0 +1,25 @@
+package com.salapp.sb.ats.notificationservice.repositories;
+
+import com.salapp.sb.ats.notificationservice.model.Notification;
+
+import java.util.List;
+
+/**
+ * Custom repository fragment for writing many {@link Notification} records at once.
+ * <p>
+ * {@link Notification} uses an identity id, which prevents Hibernate from batching its inserts. This fragment
+ * writes the rows with a single JDBC batch instead.
+ * </p>
+ *
+ * @author Stainley Lebron
+ * @since March 10, 2025
+ */
+public interface NotificationBatchRepository {
+
+    /**
+     * Inserts all notifications in one JDBC batch. Generated ids are not written back to the entities.
+     *
+     * @param notifications the notifications to insert
+     */
+    void insertAll(List<Notification> notifications);
+}
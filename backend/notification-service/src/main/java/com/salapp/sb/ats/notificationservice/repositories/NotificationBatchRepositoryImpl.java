@@ -0,0 +1,36 @@
+package com.salapp.sb.ats.notificationservice.repositories;
+
+import com.salapp.sb.ats.notificationservice.model.Notification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * {@link JdbcTemplate} implementation of {@link NotificationBatchRepository}.
+ */
+@RequiredArgsConstructor
+class NotificationBatchRepositoryImpl implements NotificationBatchRepository {
+
+    private static final String INSERT_SQL =
+            "insert into notifications (recipient, message_type, content, sent_at, success) values (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void insertAll(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, notifications, notifications.size(), (ps, notification) -> {
+            ps.setString(1, notification.getRecipient());
+            ps.setString(2, notification.getMessageType());
+            ps.setString(3, notification.getContent());
+            ps.setTimestamp(4, Timestamp.valueOf(notification.getSentAt()));
+            ps.setBoolean(5, notification.isSuccess());
+        });
+    }
+}
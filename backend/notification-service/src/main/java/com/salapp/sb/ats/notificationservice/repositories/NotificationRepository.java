@@ -10,11 +10,12 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * for the {@link Notification} entity, identified by its primary key of type {@link Long}.
  * It serves as a data access layer for the notification service, allowing interaction with the
  * underlying database in a type-safe manner without requiring manual implementation of standard methods.
+ * Bulk inserts for the batch listener come from {@link NotificationBatchRepository}.
  * </p>
  *
  * @author Stainley Lebron
  * @since March 10, 2025
  */
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
+public interface NotificationRepository extends JpaRepository<Notification, Long>, NotificationBatchRepository {
 
 }
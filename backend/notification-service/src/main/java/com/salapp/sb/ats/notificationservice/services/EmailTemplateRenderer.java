@@ -0,0 +1,164 @@
+package com.salapp.sb.ats.notificationservice.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.unbescape.html.HtmlEscape;
+import org.unbescape.html.HtmlEscapeLevel;
+import org.unbescape.html.HtmlEscapeType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Renders email templates, compiling each one on first use into static fragments and variable slots.
+ * <p>
+ * A template is compiled by rendering it through Thymeleaf twice, with different unique marker values, and
+ * splitting the output on those markers. It is only used in compiled form when both passes produce the same
+ * fragments, i.e. when its structure does not depend on the variable values. Later renders are then a single
+ * pre-sized string concatenation with HTML escaping, and never touch Thymeleaf. Templates whose structure depends
+ * on their values (conditionals, iteration) keep going through Thymeleaf.
+ * </p>
+ * <p>
+ * Compiled templates treat {@code null} values as empty text, so they should only print variables with
+ * {@code th:text}-style output. With {@code notification.templates.hot-reload} set (the {@code dev} profile),
+ * nothing is compiled and every render goes through Thymeleaf, so template edits show up immediately.
+ * </p>
+ *
+ * @author Stainley Lebron
+ * @since March 10, 2025
+ */
+@Slf4j
+@Service
+public class EmailTemplateRenderer {
+
+    private static final String MARKER_PREFIX = "tplslot";
+    private static final int ESTIMATED_VALUE_LENGTH = 64;
+
+    private final SpringTemplateEngine templateEngine;
+    private final boolean hotReload;
+    private final String markerNonce = UUID.randomUUID().toString().replace("-", "");
+    private final ConcurrentMap<String, Optional<CompiledTemplate>> compiledTemplates = new ConcurrentHashMap<>();
+
+    public EmailTemplateRenderer(SpringTemplateEngine templateEngine,
+                                 @Value("${notification.templates.hot-reload:false}") boolean hotReload) {
+        this.templateEngine = templateEngine;
+        this.hotReload = hotReload;
+    }
+
+    /**
+     * Template split around its variable slots. {@code fragments} has one more element than {@code slots}.
+     */
+    record CompiledTemplate(Set<String> variables, List<String> fragments, List<String> slots, int staticLength) {
+
+        String render(Map<String, ?> values) {
+            StringBuilder html = new StringBuilder(staticLength + slots.size() * ESTIMATED_VALUE_LENGTH);
+            html.append(fragments.get(0));
+            for (int i = 0; i < slots.size(); i++) {
+                Object value = values.get(slots.get(i));
+                if (value != null) {
+                    html.append(escape(value.toString()));
+                }
+                html.append(fragments.get(i + 1));
+            }
+            return html.toString();
+        }
+    }
+
+    /**
+     * Renders the given template.
+     *
+     * @param templateName the Thymeleaf template name (e.g. "activation-email")
+     * @param variables    the template variables
+     * @return the rendered HTML
+     */
+    public String render(String templateName, Map<String, ?> variables) {
+        if (!hotReload) {
+            Optional<CompiledTemplate> compiled = compiledTemplates.computeIfAbsent(templateName,
+                    name -> compile(name, variables.keySet()));
+            if (compiled.isPresent() && compiled.get().variables().equals(variables.keySet())) {
+                return compiled.get().render(variables);
+            }
+        }
+        return process(templateName, variables);
+    }
+
+    private Optional<CompiledTemplate> compile(String templateName, Set<String> variables) {
+        Map<String, String> firstMarkers = markers(variables, "a");
+        Map<String, String> secondMarkers = markers(variables, "b");
+
+        Optional<CompiledTemplate> first = split(process(templateName, firstMarkers), firstMarkers);
+        Optional<CompiledTemplate> second = split(process(templateName, secondMarkers), secondMarkers);
+        if (first.isEmpty() || !first.equals(second)) {
+            log.info("Template {} depends on its variable values; rendering it through Thymeleaf", templateName);
+            return Optional.empty();
+        }
+
+        log.info("Compiled template {} into {} fragments", templateName, first.get().fragments().size());
+        return first;
+    }
+
+    private String process(String templateName, Map<String, ?> variables) {
+        Context context = new Context();
+        variables.forEach(context::setVariable);
+        return templateEngine.process(templateName, context);
+    }
+
+    private Map<String, String> markers(Set<String> variables, String pass) {
+        Map<String, String> markers = new HashMap<>();
+        for (String variable : variables) {
+            markers.put(variable, MARKER_PREFIX + markerNonce + pass + variable.length() + "x" + variable + "end");
+        }
+        return markers;
+    }
+
+    private static Optional<CompiledTemplate> split(String html, Map<String, String> markers) {
+        List<String> fragments = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        int staticLength = 0;
+        int position = 0;
+
+        while (true) {
+            int next = -1;
+            String slot = null;
+            for (Map.Entry<String, String> marker : markers.entrySet()) {
+                int index = html.indexOf(marker.getValue(), position);
+                if (index >= 0 && (next < 0 || index < next)) {
+                    next = index;
+                    slot = marker.getKey();
+                }
+            }
+
+            String fragment = html.substring(position, next < 0 ? html.length() : next);
+            fragments.add(fragment);
+            staticLength += fragment.length();
+            if (next < 0) {
+                break;
+            }
+            slots.add(slot);
+            position = next + markers.get(slot).length();
+        }
+
+        if (fragments.stream().anyMatch(fragment -> fragment.contains(MARKER_PREFIX))) {
+            // A marker was transformed (e.g. escaped or truncated) instead of printed verbatim
+            return Optional.empty();
+        }
+        return Optional.of(new CompiledTemplate(Set.copyOf(markers.keySet()), List.copyOf(fragments),
+                List.copyOf(slots), staticLength));
+    }
+
+    private static String escape(String value) {
+        // Same escaping Thymeleaf applies to th:text and attribute values
+        return HtmlEscape.escapeHtml(value, HtmlEscapeType.HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                HtmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+    }
+}
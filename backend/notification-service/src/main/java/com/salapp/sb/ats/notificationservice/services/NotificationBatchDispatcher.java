@@ -0,0 +1,200 @@
+package com.salapp.sb.ats.notificationservice.services;
+
+import com.salapp.career.launch.shared.library.NotificationRequest;
+import com.salapp.sb.ats.notificationservice.model.Notification;
+import com.salapp.sb.ats.notificationservice.repositories.NotificationRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Batch alternative to {@link NotificationService#listenNotificationEvents}, enabled with
+ * {@code notification.batch.enabled}.
+ * <p>
+ * Each poll is split into one chunk per SMTP connection. Chunks are rendered and sent in parallel on a bounded
+ * pool, and every chunk goes out through a single {@link JavaMailSender#send(MimeMessage...)} call, which reuses
+ * one SMTP connection for all of its messages. All {@link Notification} rows of the poll are then written in one
+ * JDBC batch. A record that cannot be rendered or sent is recorded as failed without affecting the rest of the
+ * poll; one without a recipient or message type cannot be recorded and is skipped. If the batch violates a
+ * constraint the rows are inserted one by one and only the offending ones are dropped. Any other insert failure
+ * propagates, and since the container commits offsets only after this method returns, the whole poll is redelivered.
+ * </p>
+ *
+ * @author Stainley Lebron
+ * @since March 10, 2025
+ */
+@Slf4j
+@Service
+public class NotificationBatchDispatcher {
+
+    private final NotificationService notificationService;
+    private final JavaMailSender mailSender;
+    private final NotificationRepository notificationRepository;
+    private final ThreadPoolTaskExecutor executor;
+    private final int smtpConnections;
+
+    public NotificationBatchDispatcher(NotificationService notificationService,
+                                       JavaMailSender mailSender,
+                                       NotificationRepository notificationRepository,
+                                       @Value("${notification.batch.smtp-connections:4}") int smtpConnections) {
+        this.notificationService = notificationService;
+        this.mailSender = mailSender;
+        this.notificationRepository = notificationRepository;
+        this.smtpConnections = smtpConnections;
+
+        // When every connection is busy the listener thread sends the chunk itself instead of queueing more work
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(smtpConnections);
+        executor.setMaxPoolSize(smtpConnections);
+        executor.setQueueCapacity(smtpConnections);
+        executor.setThreadNamePrefix("smtp-dispatch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+    }
+
+    /**
+     * Sends the notifications of one poll and records their outcome.
+     *
+     * @param records the records returned by a single consumer poll
+     */
+    @KafkaListener(
+            id = "notification-batch",
+            topics = "${spring.kafka.topic.notification}",
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            autoStartup = "${notification.batch.enabled:false}"
+    )
+    public void listenNotificationBatch(List<ConsumerRecord<String, NotificationRequest>> records) {
+        log.info("Received batch of {} notification events", records.size());
+
+        List<CompletableFuture<List<Notification>>> chunks = new ArrayList<>();
+        for (List<ConsumerRecord<String, NotificationRequest>> chunk : partition(records, smtpConnections)) {
+            chunks.add(CompletableFuture.supplyAsync(() -> dispatch(chunk), executor));
+        }
+
+        List<Notification> notifications = new ArrayList<>(records.size());
+        for (CompletableFuture<List<Notification>> chunk : chunks) {
+            notifications.addAll(chunk.join());
+        }
+
+        record(notifications);
+    }
+
+    /**
+     * Stores the notifications of one poll, falling back to one insert per row if the batch violates a constraint.
+     *
+     * @param notifications the notifications to store
+     */
+    void record(List<Notification> notifications) {
+        try {
+            notificationRepository.insertAll(notifications);
+            log.info("Recorded {} notifications", notifications.size());
+            return;
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Batch insert of {} notifications failed, retrying row by row: {}", notifications.size(), e.getMessage());
+        }
+
+        int recorded = 0;
+        for (Notification notification : notifications) {
+            try {
+                notificationRepository.insertAll(List.of(notification));
+                recorded++;
+            } catch (DataIntegrityViolationException e) {
+                log.error("Dropping {} notification record for {}: {}", notification.getMessageType(),
+                        notification.getRecipient(), e.getMessage());
+            }
+        }
+        log.info("Recorded {} of {} notifications", recorded, notifications.size());
+    }
+
+    /**
+     * Renders and sends one chunk over a single SMTP connection.
+     *
+     * @param chunk the records to send
+     * @return one notification record per processable event
+     */
+    List<Notification> dispatch(List<ConsumerRecord<String, NotificationRequest>> chunk) {
+        List<Notification> notifications = new ArrayList<>(chunk.size());
+        List<MimeMessage> messages = new ArrayList<>(chunk.size());
+        List<Notification> pending = new ArrayList<>(chunk.size());
+
+        for (ConsumerRecord<String, NotificationRequest> record : chunk) {
+            NotificationRequest request = record.value();
+            if (request == null) {
+                log.warn("Skipping empty notification event at offset {}", record.offset());
+                continue;
+            }
+
+            String recipient = request.getRecipient();
+            String messageType = request.getMessageType();
+            if (recipient == null || messageType == null) {
+                log.warn("Skipping notification event without recipient or message type at offset {}", record.offset());
+                continue;
+            }
+            try {
+                String htmlContent = notificationService.generateEmailContent(messageType, request.getData());
+                messages.add(notificationService.createEmail(recipient, messageType, htmlContent));
+                pending.add(notificationService.buildNotification(recipient, messageType, htmlContent, true));
+            } catch (MessagingException | RuntimeException e) {
+                log.error("Failed to prepare {} notification to {}: {}", messageType, recipient, e.getMessage());
+                notifications.add(notificationService.buildNotification(recipient, messageType, null, false));
+            }
+        }
+
+        if (!messages.isEmpty()) {
+            try {
+                mailSender.send(messages.toArray(MimeMessage[]::new));
+            } catch (MailSendException e) {
+                Map<Object, Exception> failed = e.getFailedMessages();
+                for (int i = 0; i < messages.size(); i++) {
+                    if (failed.isEmpty() || failed.containsKey(messages.get(i))) {
+                        markFailed(pending.get(i));
+                    }
+                }
+            } catch (MailException e) {
+                log.error("Failed to send {} notifications: {}", messages.size(), e.getMessage());
+                pending.forEach(this::markFailed);
+            }
+        }
+
+        notifications.addAll(pending);
+        return notifications;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private void markFailed(Notification notification) {
+        log.error("Failed to send {} notification to {}", notification.getMessageType(), notification.getRecipient());
+        notification.setSuccess(false);
+        notification.setContent(null);
+    }
+
+    private static <T> List<List<T>> partition(List<T> items, int parts) {
+        int size = Math.max(1, (items.size() + parts - 1) / parts);
+        List<List<T>> chunks = new ArrayList<>();
+        for (int start = 0; start < items.size(); start += size) {
+            chunks.add(items.subList(start, Math.min(items.size(), start + size)));
+        }
+        return chunks;
+    }
+}
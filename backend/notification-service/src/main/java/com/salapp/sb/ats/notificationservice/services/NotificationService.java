@@ -13,10 +13,10 @@ import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring6.SpringTemplateEngine;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Service class responsible for handling notification-related operations, including consuming Kafka events,
@@ -37,7 +37,7 @@ import java.time.LocalDateTime;
 public class NotificationService {
 
     private final JavaMailSender mailSender;
-    private final SpringTemplateEngine templateEngine;
+    private final EmailTemplateRenderer templateRenderer;
     private final NotificationRepository notificationRepository;
 
     @Value("${app.base-url}")
@@ -50,13 +50,19 @@ public class NotificationService {
      * from the event, generates email content based on the message type, sends the email, and saves the notification
      * status to the database. If email sending fails, it logs the error and records the failure.
      * </p>
+     * <p>
+     * Not started when {@code notification.batch.enabled} is set; {@link NotificationBatchDispatcher} consumes the
+     * topic instead.
+     * </p>
      *
      * @param record the Kafka consumer record containing the notification key and {@link NotificationRequest} value
      */
     @KafkaListener(
+            id = "notification-single",
             topics = "${spring.kafka.topic.notification}",
             groupId = "${spring.kafka.consumer.group-id}",
-            containerFactory = "kafkaListenerContainerFactory"
+            containerFactory = "kafkaListenerContainerFactory",
+            autoStartup = "#{!${notification.batch.enabled:false}}"
     )
     public void listenNotificationEvents(ConsumerRecord<String, NotificationRequest> record) {
 
@@ -81,9 +87,9 @@ public class NotificationService {
     /**
      * Generates HTML email content based on the specified message type and notification data.
      * <p>
-     * Uses Thymeleaf to render email templates (e.g., "activation-email" or "welcome-email") with dynamic data
-     * provided in the {@link NotificationRequest.NotificationData} object. The method supports predefined message
-     * types and throws an exception for unrecognized types.
+     * Renders email templates (e.g., "activation-email" or "welcome-email") through {@link EmailTemplateRenderer}
+     * with dynamic data provided in the {@link NotificationRequest.NotificationData} object. The method supports
+     * predefined message types and throws an exception for unrecognized types.
      * </p>
      *
      * @param messageType the type of notification (e.g., "activation", "welcome")
@@ -92,16 +98,16 @@ public class NotificationService {
      * @throws IllegalArgumentException if the message type is unknown or unsupported
      */
     public String generateEmailContent(String messageType, NotificationRequest.NotificationData data) {
-        Context context = new Context();
-        context.setVariable("firstName", data.getFirstName());
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("firstName", data.getFirstName());
 
         return switch (messageType) {
             case "activation" -> {
-                context.setVariable("activationLink", mainServiceUrl + "/activate?token=" + data.getToken());
-                context.setVariable("expiryDate", data.getExpiry());
-                yield templateEngine.process("activation-email", context);
+                variables.put("activationLink", mainServiceUrl + "/activate?token=" + data.getToken());
+                variables.put("expiryDate", data.getExpiry());
+                yield templateRenderer.render("activation-email", variables);
             }
-            case "welcome" -> templateEngine.process("welcome-email", context);
+            case "welcome" -> templateRenderer.render("welcome-email", variables);
             default -> throw new IllegalArgumentException("Unknown message type: " + messageType);
         };
     }
@@ -119,15 +125,29 @@ public class NotificationService {
      * @throws MessagingException if there is an error during email construction or sending
      */
     public void sendEmail(String to, String messageType, String htmlContent) throws MessagingException {
+        MimeMessage message = createEmail(to, messageType, htmlContent);
+
+        mailSender.send(message);
+        log.info("Sent {} notification to {}", messageType, to);
+    }
+
+    /**
+     * Builds, without sending, the email for the given recipient and message type.
+     *
+     * @param to          the email address of the recipient
+     * @param messageType the type of notification, used to determine the subject
+     * @param htmlContent the HTML content of the email body
+     * @return the populated message
+     * @throws MessagingException if the message cannot be populated
+     */
+    public MimeMessage createEmail(String to, String messageType, String htmlContent) throws MessagingException {
         MimeMessage message = mailSender.createMimeMessage();
         MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
 
         helper.setTo(to);
         helper.setSubject(getSubject(messageType));
         helper.setText(htmlContent, true);
-
-        mailSender.send(message);
-        log.info("Sent {} notification to {}", messageType, to);
+        return message;
     }
 
 
@@ -162,13 +182,25 @@ public class NotificationService {
      * @param success     true if the notification was sent successfully, false otherwise
      */
     public void saveNotification(String recipient, String messageType, String content, boolean success) {
-        Notification notification = Notification.builder()
+        notificationRepository.save(buildNotification(recipient, messageType, content, success));
+    }
+
+    /**
+     * Creates an unsaved {@link Notification} record stamped with the current time.
+     *
+     * @param recipient   the email address of the notification recipient
+     * @param messageType the type of notification (e.g., "activation", "welcome")
+     * @param content     the HTML content of the notification, or null if sending failed
+     * @param success     true if the notification was sent successfully, false otherwise
+     * @return the notification record
+     */
+    public Notification buildNotification(String recipient, String messageType, String content, boolean success) {
+        return Notification.builder()
                 .recipient(recipient)
                 .messageType(messageType)
                 .content(content)
                 .sentAt(LocalDateTime.now())
                 .success(success)
                 .build();
-        notificationRepository.save(notification);
     }
 }
@@ -0,0 +1,83 @@
+package com.salapp.sb.ats.notificationservice.service;
+
+import com.salapp.sb.ats.notificationservice.services.EmailTemplateRenderer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class EmailTemplateRendererTest {
+
+    private SpringTemplateEngine templateEngine;
+
+    @BeforeEach
+    void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+
+        templateEngine = spy(new SpringTemplateEngine());
+        templateEngine.setTemplateResolver(resolver);
+    }
+
+    @Test
+    void testRender_CompiledOutputMatchesThymeleaf() {
+        // Arrange
+        EmailTemplateRenderer renderer = new EmailTemplateRenderer(templateEngine, false);
+        Map<String, Object> variables = activationVariables("<José & \"Ana\">", "tok.en");
+
+        // Act
+        String compiled = renderer.render("activation-email", variables);
+        String secondCompiled = renderer.render("activation-email", activationVariables(null, "other"));
+
+        // Assert
+        assertEquals(thymeleaf(variables), compiled);
+        assertEquals(thymeleaf(activationVariables(null, "other")), secondCompiled);
+        // Two marker passes at compile time; renders after that no longer reach Thymeleaf
+        verify(templateEngine, times(2)).process(eq("activation-email"), any(Context.class));
+    }
+
+    @Test
+    void testRender_HotReloadAlwaysUsesThymeleaf() {
+        // Arrange
+        EmailTemplateRenderer renderer = new EmailTemplateRenderer(templateEngine, true);
+        Map<String, Object> variables = Map.of("firstName", "Jane");
+
+        // Act
+        renderer.render("welcome-email", variables);
+        renderer.render("welcome-email", variables);
+
+        // Assert
+        verify(templateEngine, times(2)).process(eq("welcome-email"), any(Context.class));
+    }
+
+    private Map<String, Object> activationVariables(String firstName, String token) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("firstName", firstName);
+        variables.put("activationLink", "http://localhost:5173/activate?token=" + token + "&source=email");
+        variables.put("expiryDate", "2025-03-10T12:00:00");
+        return variables;
+    }
+
+    private String thymeleaf(Map<String, Object> variables) {
+        Context context = new Context();
+        variables.forEach(context::setVariable);
+        return new SpringTemplateEngine() {{
+            setTemplateResolver(templateEngine.getTemplateResolvers().iterator().next());
+        }}.process("activation-email", context);
+    }
+}
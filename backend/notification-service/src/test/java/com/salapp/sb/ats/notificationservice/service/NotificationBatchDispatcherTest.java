@@ -0,0 +1,173 @@
+package com.salapp.sb.ats.notificationservice.service;
+
+import com.salapp.career.launch.shared.library.NotificationRequest;
+import com.salapp.sb.ats.notificationservice.model.Notification;
+import com.salapp.sb.ats.notificationservice.repositories.NotificationRepository;
+import com.salapp.sb.ats.notificationservice.services.EmailTemplateRenderer;
+import com.salapp.sb.ats.notificationservice.services.NotificationBatchDispatcher;
+import com.salapp.sb.ats.notificationservice.services.NotificationService;
+import jakarta.mail.internet.MimeMessage;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.exceptions.TemplateProcessingException;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationBatchDispatcherTest {
+
+    private JavaMailSender mailSender;
+    private NotificationRepository notificationRepository;
+    private SpringTemplateEngine templateEngine;
+    private NotificationService notificationService;
+    private NotificationBatchDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = mock(JavaMailSender.class);
+        notificationRepository = mock(NotificationRepository.class);
+        templateEngine = mock(SpringTemplateEngine.class);
+        when(templateEngine.process(anyString(), any(Context.class))).thenReturn("<html>Welcome</html>");
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> mock(MimeMessage.class));
+
+        notificationService = new NotificationService(mailSender, new EmailTemplateRenderer(templateEngine, false), notificationRepository);
+        dispatcher = new NotificationBatchDispatcher(notificationService, mailSender, notificationRepository, 2);
+    }
+
+    @Test
+    void testListenNotificationBatch_SendsPerChunkAndInsertsOnce() {
+        // Arrange
+        List<ConsumerRecord<String, NotificationRequest>> records = List.of(
+                record(0, "a@example.com"), record(1, "b@example.com"),
+                record(2, "c@example.com"), record(3, "d@example.com"));
+
+        // Act
+        dispatcher.listenNotificationBatch(records);
+
+        // Assert
+        verify(mailSender, times(2)).send(any(MimeMessage[].class));
+        List<Notification> saved = captureInserted();
+        assertEquals(4, saved.size());
+        assertTrue(saved.stream().allMatch(Notification::isSuccess));
+    }
+
+    @Test
+    void testListenNotificationBatch_RecordsPartialSmtpFailure() {
+        // Arrange
+        NotificationBatchDispatcher singleConnection =
+                new NotificationBatchDispatcher(notificationService, mailSender, notificationRepository, 1);
+        List<MimeMessage> created = new ArrayList<>();
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> {
+            MimeMessage message = mock(MimeMessage.class);
+            created.add(message);
+            return message;
+        });
+        doAnswer(invocation -> {
+            throw new MailSendException(Map.of(created.get(1), new Exception("550 Mailbox unavailable")));
+        }).when(mailSender).send(any(MimeMessage[].class));
+
+        // Act
+        singleConnection.listenNotificationBatch(List.of(record(0, "a@example.com"), record(1, "b@example.com")));
+
+        // Assert
+        List<Notification> saved = captureInserted();
+        assertEquals(2, saved.size());
+        assertTrue(saved.get(0).isSuccess());
+        assertFalse(saved.get(1).isSuccess());
+        assertNull(saved.get(1).getContent());
+    }
+
+    @Test
+    void testListenNotificationBatch_RecordsTemplateFailureAndSendsTheRest() {
+        // Arrange
+        when(templateEngine.process(anyString(), any(Context.class)))
+                .thenThrow(new TemplateProcessingException("Unknown variable"))
+                .thenReturn("<html>Welcome</html>");
+        NotificationBatchDispatcher singleConnection =
+                new NotificationBatchDispatcher(notificationService, mailSender, notificationRepository, 1);
+
+        // Act
+        singleConnection.listenNotificationBatch(List.of(record(0, "a@example.com"), record(1, "b@example.com")));
+
+        // Assert
+        verify(mailSender).send(any(MimeMessage[].class));
+        List<Notification> saved = captureInserted();
+        assertEquals(2, saved.size());
+        assertFalse(saved.get(0).isSuccess());
+        assertTrue(saved.get(1).isSuccess());
+    }
+
+    @Test
+    void testListenNotificationBatch_PropagatesInsertFailure() {
+        // Arrange
+        doThrow(new DataAccessResourceFailureException("connection reset"))
+                .when(notificationRepository).insertAll(anyList());
+
+        // Act & Assert
+        assertThrows(DataAccessResourceFailureException.class,
+                () -> dispatcher.listenNotificationBatch(List.of(record(0, "a@example.com"))));
+    }
+
+    @Test
+    void testListenNotificationBatch_FallsBackToRowInsertsOnConstraintViolation() {
+        // Arrange
+        doThrow(new DataIntegrityViolationException("value too long"))
+                .when(notificationRepository).insertAll(argThat(notifications -> notifications.size() > 1
+                        || notifications.get(0).getRecipient().equals("b@example.com")));
+
+        // Act
+        dispatcher.listenNotificationBatch(List.of(record(0, "a@example.com"), record(1, "b@example.com")));
+
+        // Assert
+        verify(notificationRepository).insertAll(argThat(notifications -> notifications.size() == 1
+                && notifications.get(0).getRecipient().equals("a@example.com")));
+    }
+
+    @Test
+    void testListenNotificationBatch_SkipsEventsWithoutRecipient() {
+        // Act
+        dispatcher.listenNotificationBatch(List.of(record(0, null), record(1, "b@example.com")));
+
+        // Assert
+        List<Notification> saved = captureInserted();
+        assertEquals(1, saved.size());
+        assertEquals("b@example.com", saved.get(0).getRecipient());
+    }
+
+    private List<Notification> captureInserted() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Notification>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepository).insertAll(captor.capture());
+        return captor.getValue();
+    }
+
+    private ConsumerRecord<String, NotificationRequest> record(long offset, String recipient) {
+        NotificationRequest.NotificationData data = new NotificationRequest.NotificationData("Jane", null, null);
+        return new ConsumerRecord<>("topic", 0, offset, recipient, new NotificationRequest(recipient, "welcome", data));
+    }
+}
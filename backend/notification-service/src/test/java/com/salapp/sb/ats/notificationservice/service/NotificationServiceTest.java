@@ -4,6 +4,7 @@ package com.salapp.sb.ats.notificationservice.service;
 import com.salapp.career.launch.shared.library.NotificationRequest;
 import com.salapp.sb.ats.notificationservice.model.Notification;
 import com.salapp.sb.ats.notificationservice.repositories.NotificationRepository;
+import com.salapp.sb.ats.notificationservice.services.EmailTemplateRenderer;
 import com.salapp.sb.ats.notificationservice.services.NotificationService;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
@@ -46,7 +47,7 @@ public class NotificationServiceTest {
     void setUp() {
         // Set the private field using reflection or Mockito
         MockitoAnnotations.openMocks(this);
-        notificationService = new NotificationService(mailSender, templateEngine, notificationRepository);
+        notificationService = new NotificationService(mailSender, new EmailTemplateRenderer(templateEngine, false), notificationRepository);
         // Set the base URL using reflection or setter if available
         try {
             var field = NotificationService.class.getDeclaredField("mainServiceUrl");
@@ -116,7 +117,7 @@ public class NotificationServiceTest {
         String content = notificationService.generateEmailContent("activation", data);
 
         // Assert
-        verify(templateEngine).process(eq("activation-email"), any(Context.class));
+        verify(templateEngine, atLeastOnce()).process(eq("activation-email"), any(Context.class));
         assertEquals("<html>Activation</html>", content);
     }
 
@@ -0,0 +1,89 @@
+package com.salapp.sb.ats.servicediscovery.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Named Caffeine cache profiles, bound from {@code cache.*}.
+ * <p>
+ * Every cache named under {@code cache.profiles} is created at startup with its own size and expiry; settings it
+ * leaves out are taken from {@code cache.defaults}, which also applies to caches created on demand under any other
+ * name. The two expiry settings are inherited together and only by a profile that sets neither, so a profile with
+ * {@code expire-after-access} alone does not also expire after the default write time.
+ * </p>
+ *
+ * @author Stainley Lebron
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache")
+public class CacheProfileProperties {
+
+    private Profile defaults = new Profile(1_000L, Duration.ofMinutes(10), null, null);
+    private Map<String, Profile> profiles = new LinkedHashMap<>();
+
+    /**
+     * Size and expiry of one cache. A {@code null} setting is not applied.
+     */
+    @Getter
+    @Setter
+    public static class Profile {
+        private Long maximumSize;
+        private Duration expireAfterWrite;
+        private Duration expireAfterAccess;
+        /**
+         * Requires a {@code CacheLoader} bean named after the cache.
+         */
+        private Duration refreshAfterWrite;
+
+        public Profile() {
+        }
+
+        public Profile(Long maximumSize, Duration expireAfterWrite, Duration expireAfterAccess, Duration refreshAfterWrite) {
+            this.maximumSize = maximumSize;
+            this.expireAfterWrite = expireAfterWrite;
+            this.expireAfterAccess = expireAfterAccess;
+            this.refreshAfterWrite = refreshAfterWrite;
+        }
+
+        /**
+         * @return this profile, with the settings it leaves out taken from {@code defaults}; the expiry of
+         * {@code defaults} only if this profile sets no expiry at all
+         */
+        Profile orElse(Profile defaults) {
+            boolean expires = expireAfterWrite != null || expireAfterAccess != null;
+            return new Profile(
+                    maximumSize != null ? maximumSize : defaults.maximumSize,
+                    expires ? expireAfterWrite : defaults.expireAfterWrite,
+                    expires ? expireAfterAccess : defaults.expireAfterAccess,
+                    refreshAfterWrite != null ? refreshAfterWrite : defaults.refreshAfterWrite);
+        }
+
+        /**
+         * @return a builder with these settings that records statistics
+         */
+        Caffeine<Object, Object> toBuilder() {
+            Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+            if (maximumSize != null) {
+                builder.maximumSize(maximumSize);
+            }
+            if (expireAfterWrite != null) {
+                builder.expireAfterWrite(expireAfterWrite);
+            }
+            if (expireAfterAccess != null) {
+                builder.expireAfterAccess(expireAfterAccess);
+            }
+            if (refreshAfterWrite != null) {
+                builder.refreshAfterWrite(refreshAfterWrite);
+            }
+            return builder;
+        }
+    }
+}
@@ -1,30 +1,89 @@
 package com.salapp.sb.ats.servicediscovery.config;
 
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Map;
+
 /**
  * Configuration class responsible for establishing the Caffeine caching infrastructure
  * within the Spring Boot application. This class defines the necessary bean definitions
  * to enable caching functionality using the Caffeine cache implementation.
+ * <p>
+ * Caches are sized and expired according to {@link CacheProfileProperties} and record statistics. Spring Boot binds
+ * the caches that exist at startup to Micrometer, so hit ratio, evictions and load time of every profile are
+ * published as {@code cache.*{cache=<name>}} on the {@code prometheus} endpoint.
+ * </p>
  *
  * @author Stainley Lebron
  * @since 1.0.0
  */
 @Configuration
+@EnableConfigurationProperties(CacheProfileProperties.class)
 public class CaffeineCache {
 
+    private final CacheProfileProperties properties;
+    private final Map<String, CacheLoader<Object, Object>> cacheLoaders;
+    private final Ticker ticker;
+
+    @Autowired
+    public CaffeineCache(CacheProfileProperties properties, Map<String, CacheLoader<Object, Object>> cacheLoaders) {
+        this(properties, cacheLoaders, Ticker.systemTicker());
+    }
+
+    CaffeineCache(CacheProfileProperties properties, Map<String, CacheLoader<Object, Object>> cacheLoaders, Ticker ticker) {
+        this.properties = properties;
+        this.cacheLoaders = cacheLoaders;
+        this.ticker = ticker;
+    }
+
     /**
      * Constructs and initializes a CacheManager instance utilizing the Caffeine caching
      * framework. This method creates a bean that manages cache operations throughout
      * the application, providing an efficient in-memory caching solution.
      *
      * @return CacheManager instance configured with Caffeine implementation
+     * @throws IllegalStateException if a profile sets {@code refresh-after-write} but no {@code CacheLoader} bean is
+     *                               named after its cache, or a refresh that its entries would expire before
      */
     @Bean
     public CacheManager cacheManager() {
-        return new CaffeineCacheManager();
+        CacheProfileProperties.Profile defaults = properties.getDefaults();
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(withoutRefresh(defaults).toBuilder().ticker(ticker));
+
+        properties.getProfiles().forEach((name, configured) -> {
+            CacheProfileProperties.Profile profile = configured.orElse(defaults);
+            Caffeine<Object, Object> builder = profile.toBuilder().ticker(ticker);
+            if (profile.getRefreshAfterWrite() == null) {
+                cacheManager.registerCustomCache(name, builder.build());
+                return;
+            }
+            if (profile.getExpireAfterWrite() != null && profile.getRefreshAfterWrite().compareTo(profile.getExpireAfterWrite()) >= 0) {
+                throw new IllegalStateException("Cache '" + name + "' sets refresh-after-write " + profile.getRefreshAfterWrite()
+                        + " but its entries expire after write at " + profile.getExpireAfterWrite() + ", so they would never be refreshed");
+            }
+            CacheLoader<Object, Object> loader = cacheLoaders.get(name);
+            if (loader == null) {
+                throw new IllegalStateException("Cache '" + name + "' sets refresh-after-write but there is no CacheLoader bean named '" + name + "'");
+            }
+            cacheManager.registerCustomCache(name, builder.build(loader));
+        });
+        return cacheManager;
+    }
+
+    /**
+     * Caches created on demand have no loader, so they cannot refresh.
+     */
+    private static CacheProfileProperties.Profile withoutRefresh(CacheProfileProperties.Profile profile) {
+        return new CacheProfileProperties.Profile(profile.getMaximumSize(), profile.getExpireAfterWrite(),
+                profile.getExpireAfterAccess(), null);
     }
 }
@@ -1,10 +1,22 @@
 package com.salapp.sb.ats.servicediscovery.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -16,10 +28,12 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  */
 class CaffeineCacheTest {
 
+    private final AtomicLong nanos = new AtomicLong();
+
     @Test
     void testCacheManagerBeanCreation() {
         // Arrange
-        CaffeineCache caffeineCacheConfig = new CaffeineCache();
+        CaffeineCache caffeineCacheConfig = new CaffeineCache(new CacheProfileProperties(), Map.of());
 
         // Act
         CacheManager cacheManager = caffeineCacheConfig.cacheManager();
@@ -29,4 +43,124 @@ class CaffeineCacheTest {
         assertTrue(cacheManager instanceof CaffeineCacheManager,
                 "CacheManager should be an instance of CaffeineCacheManager");
     }
+
+    @Test
+    void testMaximumSizeEvictsEntries() {
+        // Arrange
+        CacheProfileProperties properties = new CacheProfileProperties();
+        properties.getProfiles().put("instances", new CacheProfileProperties.Profile(2L, null, null, null));
+        Cache<Object, Object> cache = nativeCache(new CaffeineCache(properties, Map.of(), nanos::get).cacheManager(), "instances");
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            cache.put("key-" + i, i);
+        }
+        cache.cleanUp();
+
+        // Assert
+        assertEquals(2, cache.estimatedSize());
+        assertEquals(8, cache.stats().evictionCount());
+    }
+
+    @Test
+    void testExpireAfterWriteEvictsStaleEntries() {
+        // Arrange
+        CacheProfileProperties properties = new CacheProfileProperties();
+        properties.getProfiles().put("instances", new CacheProfileProperties.Profile(null, Duration.ofMinutes(1), null, null));
+        Cache<Object, Object> cache = nativeCache(new CaffeineCache(properties, Map.of(), nanos::get).cacheManager(), "instances");
+        cache.put("key", "value");
+
+        // Act
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        Object fresh = cache.getIfPresent("key");
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(31));
+        Object stale = cache.getIfPresent("key");
+
+        // Assert
+        assertEquals("value", fresh);
+        assertNull(stale);
+    }
+
+    @Test
+    void testExpireAfterAccessKeepsEntriesInUse() {
+        // Arrange
+        CacheProfileProperties properties = new CacheProfileProperties();
+        properties.getProfiles().put("instances", new CacheProfileProperties.Profile(null, null, Duration.ofMinutes(1), null));
+        Cache<Object, Object> cache = nativeCache(new CaffeineCache(properties, Map.of(), nanos::get).cacheManager(), "instances");
+        cache.put("key", "value");
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            nanos.addAndGet(TimeUnit.SECONDS.toNanos(50));
+            cache.getIfPresent("key");
+        }
+        Object inUse = cache.getIfPresent("key");
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        Object idle = cache.getIfPresent("key");
+
+        // Assert
+        assertEquals("value", inUse);
+        assertNull(idle);
+    }
+
+    @Test
+    void testCachesCreatedOnDemandUseDefaultsAndRecordStats() {
+        // Arrange
+        CacheProfileProperties properties = new CacheProfileProperties();
+        properties.getDefaults().setMaximumSize(1L);
+        Cache<Object, Object> cache = nativeCache(new CaffeineCache(properties, Map.of(), nanos::get).cacheManager(), "other");
+
+        // Act
+        cache.put("first", 1);
+        cache.put("second", 2);
+        cache.cleanUp();
+        cache.getIfPresent("missing");
+
+        // Assert
+        CacheStats stats = cache.stats();
+        assertEquals(1, cache.estimatedSize());
+        assertEquals(1, stats.evictionCount());
+        assertEquals(1, stats.missCount());
+    }
+
+    @Test
+    void testRefreshWithoutLoaderIsRejected() {
+        // Arrange
+        CacheProfileProperties properties = new CacheProfileProperties();
+        properties.getProfiles().put("instances", new CacheProfileProperties.Profile(null, null, null, Duration.ofMinutes(1)));
+        CaffeineCache caffeineCacheConfig = new CaffeineCache(properties, Map.of(), nanos::get);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, caffeineCacheConfig::cacheManager);
+    }
+
+    @Test
+    void testRefreshNotBeforeExpiryIsRejected() {
+        // Arrange
+        CacheProfileProperties properties = new CacheProfileProperties();
+        properties.getProfiles().put("instances", new CacheProfileProperties.Profile(null, null, null, Duration.ofMinutes(15)));
+        CacheLoader<Object, Object> loader = key -> key;
+        CaffeineCache caffeineCacheConfig = new CaffeineCache(properties, Map.of("instances", loader), nanos::get);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, caffeineCacheConfig::cacheManager);
+    }
+
+    @Test
+    void testProfilesAreBoundFromConfiguration() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(CaffeineCache.class)
+                .withPropertyValues("cache.profiles.instances.maximum-size=5", "cache.profiles.instances.expire-after-access=2m")
+                .run(context -> {
+                    // Assert
+                    CacheManager cacheManager = context.getBean(CacheManager.class);
+                    assertTrue(cacheManager.getCacheNames().contains("instances"));
+                    assertEquals(5L, nativeCache(cacheManager, "instances").policy().eviction().orElseThrow().getMaximum());
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cache<Object, Object> nativeCache(CacheManager cacheManager, String name) {
+        return (Cache<Object, Object>) cacheManager.getCache(name).getNativeCache();
+    }
 }
@@ -0,0 +1,41 @@
+package com.salapp.career.launch.shared.library;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Published by user-service once an account has been activated.
+ * <p>
+ * Consumers keep their own copy of the activation status (auth-server checks it on every login)
+ * instead of querying user-service synchronously. Keyed by {@link #userId} so that events for the
+ * same account stay ordered within a partition.
+ *
+ * @since 2025.3.1
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class UserActivatedEvent {
+
+    /**
+     * Identifier shared by the auth-server and user-service records of the account.
+     */
+    @JsonProperty(required = true)
+    @NotNull(message = "User id must not be null")
+    private String userId;
+
+    /**
+     * Account email at activation time, for logging and correlation only.
+     */
+    private String email;
+
+    /**
+     * Activation timestamp in ISO 8601 local date-time format.
+     */
+    private String activatedAt;
+}
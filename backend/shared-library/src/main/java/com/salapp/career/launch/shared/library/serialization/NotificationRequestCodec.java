@@ -0,0 +1,180 @@
+package com.salapp.career.launch.shared.library.serialization;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.salapp.career.launch.shared.library.NotificationRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Compact binary encoding of {@link NotificationRequest}.
+ * <p>
+ * Layout (version 1):
+ * <pre>
+ *   magic     1 byte   0xC7, never the first byte of a JSON document
+ *   version   1 byte
+ *   presence  1 byte   bit i set when field i is non-null
+ *   fields    varint UTF-8 byte length followed by the bytes, for each present field in order:
+ *             recipient, messageType, data.firstName, data.token, data.expiry
+ * </pre>
+ * Later versions may only append fields, setting the next presence bits and writing their values after the known
+ * ones. Readers accept any version from their own upwards and ignore the presence bits and trailing bytes they do
+ * not know, so an older consumer can read newer events; only a version older than the reader's is rejected. The
+ * one-byte presence bitmap caps the format at 8 fields; going beyond that needs a new layout, with consumers
+ * upgraded before producers. Payloads that start with a JSON document are decoded with Jackson, so consumers keep reading
+ * events produced before the binary format was switched on.
+ *
+ * @author Stainley Lebron
+ * @version 1.0.0
+ * @since 2025.3.1
+ */
+public final class NotificationRequestCodec {
+
+    public static final byte MAGIC = (byte) 0xC7;
+    public static final byte VERSION = 1;
+
+    private static final int FIELD_COUNT = 5;
+    private static final ObjectMapper JSON = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private NotificationRequestCodec() {
+    }
+
+    /**
+     * Encodes the request in the current binary version.
+     *
+     * @param request the request to encode
+     * @return the encoded bytes
+     */
+    public static byte[] encode(NotificationRequest request) {
+        NotificationRequest.NotificationData data = request.getData();
+        String[] fields = {
+                request.getRecipient(),
+                request.getMessageType(),
+                data != null ? data.getFirstName() : null,
+                data != null ? data.getToken() : null,
+                data != null ? data.getExpiry() : null
+        };
+
+        int presence = 0;
+        byte[][] encoded = new byte[FIELD_COUNT][];
+        int size = 3;
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            if (fields[i] != null) {
+                presence |= 1 << i;
+                encoded[i] = fields[i].getBytes(StandardCharsets.UTF_8);
+                size += varintSize(encoded[i].length) + encoded[i].length;
+            }
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(size);
+        out.write(MAGIC);
+        out.write(VERSION);
+        out.write(presence);
+        for (byte[] field : encoded) {
+            if (field != null) {
+                writeVarint(out, field.length);
+                out.write(field, 0, field.length);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes a binary or JSON encoded request.
+     *
+     * @param bytes the payload
+     * @return the decoded request
+     * @throws IllegalArgumentException if the payload is in neither format or is truncated
+     */
+    public static NotificationRequest decode(byte[] bytes) {
+        if (bytes.length > 0 && bytes[0] == MAGIC) {
+            return decodeBinary(bytes);
+        }
+        if (isJson(bytes)) {
+            try {
+                return JSON.readValue(bytes, NotificationRequest.class);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Invalid JSON notification request", e);
+            }
+        }
+        throw new IllegalArgumentException("Unknown notification request encoding");
+    }
+
+    private static NotificationRequest decodeBinary(byte[] bytes) {
+        if (bytes.length < 3) {
+            throw new IllegalArgumentException("Truncated notification request header");
+        }
+        // Newer versions only append fields, which the loop below leaves unread
+        if ((bytes[1] & 0xFF) < VERSION) {
+            throw new IllegalArgumentException("Unsupported notification request version " + bytes[1]);
+        }
+
+        int presence = bytes[2] & 0xFF;
+        int[] position = {3};
+        String[] fields = new String[FIELD_COUNT];
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            if ((presence & (1 << i)) != 0) {
+                int length = readVarint(bytes, position);
+                if (length < 0 || position[0] + length > bytes.length) {
+                    throw new IllegalArgumentException("Truncated notification request field " + i);
+                }
+                fields[i] = new String(bytes, position[0], length, StandardCharsets.UTF_8);
+                position[0] += length;
+            }
+        }
+
+        NotificationRequest.NotificationData data = null;
+        if (fields[2] != null || fields[3] != null || fields[4] != null) {
+            data = new NotificationRequest.NotificationData(fields[2], fields[3], fields[4]);
+        }
+        return new NotificationRequest(fields[0], fields[1], data);
+    }
+
+    private static boolean isJson(byte[] bytes) {
+        for (byte b : bytes) {
+            if (b == '{') {
+                return true;
+            }
+            if (b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarint(byte[] bytes, int[] position) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            if (position[0] >= bytes.length) {
+                throw new IllegalArgumentException("Truncated varint");
+            }
+            byte b = bytes[position[0]++];
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    private static int varintSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,28 @@
+package com.salapp.career.launch.shared.library.serialization;
+
+import com.salapp.career.launch.shared.library.NotificationRequest;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * Kafka {@link Deserializer} reading {@link NotificationRequest} in either the {@link NotificationRequestCodec}
+ * binary format or JSON. Type headers are not needed in either case.
+ *
+ * @author Stainley Lebron
+ * @version 1.0.0
+ * @since 2025.3.1
+ */
+public class NotificationRequestDeserializer implements Deserializer<NotificationRequest> {
+
+    @Override
+    public NotificationRequest deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return NotificationRequestCodec.decode(data);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Unable to deserialize notification request from topic " + topic, e);
+        }
+    }
+}
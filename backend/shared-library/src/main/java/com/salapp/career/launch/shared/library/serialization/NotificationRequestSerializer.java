@@ -0,0 +1,21 @@
+package com.salapp.career.launch.shared.library.serialization;
+
+import com.salapp.career.launch.shared.library.NotificationRequest;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Kafka {@link Serializer} writing {@link NotificationRequest} in the {@link NotificationRequestCodec} binary format.
+ * <p>
+ * Switch producers to it only once every consumer uses {@link NotificationRequestDeserializer}.
+ *
+ * @author Stainley Lebron
+ * @version 1.0.0
+ * @since 2025.3.1
+ */
+public class NotificationRequestSerializer implements Serializer<NotificationRequest> {
+
+    @Override
+    public byte[] serialize(String topic, NotificationRequest data) {
+        return data != null ? NotificationRequestCodec.encode(data) : null;
+    }
+}
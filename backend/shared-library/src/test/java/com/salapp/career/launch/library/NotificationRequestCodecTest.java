@@ -0,0 +1,101 @@
+package com.salapp.career.launch.library;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.salapp.career.launch.shared.library.NotificationRequest;
+import com.salapp.career.launch.shared.library.serialization.NotificationRequestCodec;
+import com.salapp.career.launch.shared.library.serialization.NotificationRequestDeserializer;
+import com.salapp.career.launch.shared.library.serialization.NotificationRequestSerializer;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NotificationRequestCodecTest {
+
+    private final NotificationRequestSerializer serializer = new NotificationRequestSerializer();
+    private final NotificationRequestDeserializer deserializer = new NotificationRequestDeserializer();
+
+    @Test
+    void testBinaryRoundTripIsSmallerThanJson() throws Exception {
+        // Arrange
+        NotificationRequest request = new NotificationRequest("maría@example.com", "activation",
+                new NotificationRequest.NotificationData("María", "c2VsZWN0b3I.dmVyaWZpZXI", "2025-03-15T23:59:59.999999"));
+
+        // Act
+        byte[] binary = serializer.serialize("notification-events", request);
+        NotificationRequest decoded = deserializer.deserialize("notification-events", binary);
+
+        // Assert
+        assertEquals(request, decoded);
+        assertTrue(binary.length < new ObjectMapper().writeValueAsBytes(request).length);
+    }
+
+    @Test
+    void testNullFieldsRoundTrip() {
+        // Arrange
+        NotificationRequest request = new NotificationRequest("jane@example.com", "welcome",
+                new NotificationRequest.NotificationData(null, null, null));
+
+        // Act
+        NotificationRequest decoded = NotificationRequestCodec.decode(NotificationRequestCodec.encode(request));
+
+        // Assert
+        assertEquals("jane@example.com", decoded.getRecipient());
+        assertNull(decoded.getData());
+    }
+
+    @Test
+    void testJsonPayloadIsStillReadable() throws Exception {
+        // Arrange
+        NotificationRequest request = new NotificationRequest("john@example.com", "welcome",
+                new NotificationRequest.NotificationData("John", null, null));
+        byte[] json = new ObjectMapper().writeValueAsBytes(request);
+
+        // Act
+        NotificationRequest decoded = deserializer.deserialize("notification-events", json);
+
+        // Assert
+        assertEquals(request, decoded);
+    }
+
+    @Test
+    void testTruncatedPayloadIsRejected() {
+        // Arrange
+        byte[] binary = NotificationRequestCodec.encode(new NotificationRequest("john@example.com", "welcome", null));
+        byte[] truncated = Arrays.copyOf(binary, binary.length - 3);
+
+        // Act & Assert
+        assertThrows(SerializationException.class, () -> deserializer.deserialize("notification-events", truncated));
+    }
+
+    @Test
+    void testNewerVersionWithAppendedFieldIsReadable() {
+        // Arrange
+        byte[] binary = NotificationRequestCodec.encode(new NotificationRequest("john@example.com", "welcome", null));
+        byte[] newer = Arrays.copyOf(binary, binary.length + 3);
+        newer[1] = NotificationRequestCodec.VERSION + 1;
+        newer[2] |= 1 << 5;
+        newer[binary.length] = 2;
+        newer[binary.length + 1] = 'e';
+        newer[binary.length + 2] = 's';
+
+        // Act
+        NotificationRequest decoded = NotificationRequestCodec.decode(newer);
+
+        // Assert
+        assertEquals("john@example.com", decoded.getRecipient());
+        assertEquals("welcome", decoded.getMessageType());
+    }
+
+    @Test
+    void testOlderVersionIsRejected() {
+        // Arrange
+        byte[] binary = NotificationRequestCodec.encode(new NotificationRequest("john@example.com", "welcome", null));
+        binary[1] = 0;
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> NotificationRequestCodec.decode(binary));
+    }
+}
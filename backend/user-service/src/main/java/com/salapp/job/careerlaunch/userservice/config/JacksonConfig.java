@@ -0,0 +1,19 @@
+package com.salapp.job.careerlaunch.userservice.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Replaces Jackson's reflective property access with generated lambdas, which cuts serialisation CPU of the
+     * response DTOs. Spring Boot registers every {@link Module} bean with the application's ObjectMapper.
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
@@ -0,0 +1,44 @@
+package com.salapp.job.careerlaunch.userservice.config;
+
+import com.salapp.career.launch.shared.library.NotificationRequest;
+import com.salapp.career.launch.shared.library.UserActivatedEvent;
+import com.salapp.career.launch.shared.library.serialization.NotificationRequestSerializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+/**
+ * One template per event type, so notification events can use their own wire format.
+ * <p>
+ * {@code notification.wire-format=binary} writes notification events with the shared-library binary codec.
+ * Only switch it on once notification-service reads with {@code NotificationRequestDeserializer}.
+ * </p>
+ */
+@Configuration
+public class KafkaConfig {
+
+    @Bean
+    public KafkaTemplate<String, NotificationRequest> notificationKafkaTemplate(
+            ProducerFactory<Object, Object> producerFactory,
+            @Value("${notification.wire-format:json}") String wireFormat) {
+        Serializer<NotificationRequest> valueSerializer = "binary".equalsIgnoreCase(wireFormat)
+                ? new NotificationRequestSerializer()
+                : new JsonSerializer<>();
+        return new KafkaTemplate<>(producerFactory(producerFactory, valueSerializer));
+    }
+
+    @Bean
+    public KafkaTemplate<String, UserActivatedEvent> accountEventsKafkaTemplate(ProducerFactory<Object, Object> producerFactory) {
+        return new KafkaTemplate<>(producerFactory(producerFactory, new JsonSerializer<>()));
+    }
+
+    private static <V> ProducerFactory<String, V> producerFactory(ProducerFactory<Object, Object> base, Serializer<V> valueSerializer) {
+        return new DefaultKafkaProducerFactory<>(base.getConfigurationProperties(), new StringSerializer(), valueSerializer);
+    }
+}
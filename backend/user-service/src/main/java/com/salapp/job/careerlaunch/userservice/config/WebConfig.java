@@ -3,6 +3,7 @@ package com.salapp.job.careerlaunch.userservice.config;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -22,9 +23,10 @@ public class WebConfig implements WebMvcConfigurer {
 
         log.info("Serving uploads from: {}", resourceLocation);
 
+        // Content-addressed blobs are served by UploadController; this only covers files named by their uploader,
+        // which can be replaced in place, so clients revalidate them with Last-Modified
         registry.addResourceHandler("/uploads/**")
                 .addResourceLocations(resourceLocation)
-                //.setCachePeriod(3600)
-                .setCachePeriod(0);
+                .setCacheControl(CacheControl.noCache());
     }
 }
@@ -3,7 +3,7 @@ package com.salapp.job.careerlaunch.userservice.controller;
 import com.salapp.job.careerlaunch.userservice.dto.ProfileResponse;
 import com.salapp.job.careerlaunch.userservice.dto.UserProfileRequest;
 import com.salapp.job.careerlaunch.userservice.dto.UserResponse;
-import com.salapp.job.careerlaunch.userservice.model.User;
+import com.salapp.job.careerlaunch.userservice.dto.UserSummary;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -16,13 +16,13 @@ import org.springframework.web.multipart.MultipartFile;
  */
 public interface IUserController {
 
-    ResponseEntity<User> getUserById(String id);
+    ResponseEntity<UserSummary> getUserById(String id);
 
-    ResponseEntity<User> getUserByEmail(String email);
+    ResponseEntity<UserSummary> getUserByEmail(String email);
 
-    ResponseEntity<User> createUser(UserProfileRequest request);
+    ResponseEntity<UserSummary> createUser(UserProfileRequest request);
 
-    ResponseEntity<User> uploadProfilePicture(MultipartFile file, String userId);
+    ResponseEntity<UserSummary> uploadProfilePicture(MultipartFile file, String userId);
 
     ResponseEntity<String> activateAccount(String token);
 
@@ -0,0 +1,56 @@
+package com.salapp.job.careerlaunch.userservice.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.salapp.job.careerlaunch.userservice.dto.ProfileResponse;
+import com.salapp.job.careerlaunch.userservice.dto.UserSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Sparse fieldsets: {@code ?fields=firstName,profilePictureUrl} limits a user or profile response to the listed
+ * properties. Unknown names are ignored. Without the parameter the response is serialised as usual.
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class SparseFieldsetAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final String FIELDS_PARAMETER = "fields";
+    private static final Set<Class<?>> SPARSE_TYPES = Set.of(UserSummary.class, ProfileResponse.class);
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return MappingJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || !SPARSE_TYPES.contains(body.getClass())
+                || !(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+        String fields = servletRequest.getServletRequest().getParameter(FIELDS_PARAMETER);
+        if (fields == null || fields.isBlank()) {
+            return body;
+        }
+
+        ObjectNode node = objectMapper.valueToTree(body);
+        node.retain(Arrays.stream(fields.split(",")).map(String::trim).toList());
+        return node;
+    }
+}
@@ -1,11 +1,18 @@
 package com.salapp.job.careerlaunch.userservice.controller;
 
+import com.salapp.job.careerlaunch.userservice.dto.ImportReport;
 import com.salapp.job.careerlaunch.userservice.dto.ProfileResponse;
+import com.salapp.job.careerlaunch.userservice.dto.UserPage;
 import com.salapp.job.careerlaunch.userservice.dto.UserProfileRequest;
 import com.salapp.job.careerlaunch.userservice.dto.UserResponse;
-import com.salapp.job.careerlaunch.userservice.model.Address;
+import com.salapp.job.careerlaunch.userservice.dto.UserSummary;
+import com.salapp.job.careerlaunch.userservice.exception.UserNotFoundException;
 import com.salapp.job.careerlaunch.userservice.model.User;
+import com.salapp.job.careerlaunch.userservice.services.ProfileService;
+import com.salapp.job.careerlaunch.userservice.services.UserImportService;
 import com.salapp.job.careerlaunch.userservice.services.UserService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -14,9 +21,15 @@ import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -25,30 +38,39 @@ import java.util.List;
 public class UserController implements IUserController {
 
     private final UserService userService;
+    private final ProfileService profileService;
+    private final UserImportService userImportService;
     private static final String HEADER_USER_ID = "X-User-Id";
     private static final String HEADER_ROLES = "X-Roles";
     private static final String HEADER_PERMISSIONS = "X-Permissions";
 
     @Override
     @GetMapping
-    public ResponseEntity<User> getUserById(String id) {
-        User userFound = userService.findById(id).orElseThrow(() -> new RuntimeException("User not found"));
+    public ResponseEntity<UserSummary> getUserById(String id) {
+        UserSummary userFound = userService.findSummaryById(id).orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
 
         return ResponseEntity.ok(userFound);
     }
 
     @Override
-    public ResponseEntity<User> getUserByEmail(String email) {
-        User userFound = userService.findByEmail(email).orElseThrow(() -> new RuntimeException("User not found"));
+    public ResponseEntity<UserSummary> getUserByEmail(String email) {
+        UserSummary userFound = userService.findSummaryByEmail(email).orElseThrow(() -> new UserNotFoundException("User not found with email: " + email));
         return ResponseEntity.ok(userFound);
     }
 
     @PostMapping(value = "/register", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     @Override
-    public ResponseEntity<User> createUser(@Valid @RequestBody UserProfileRequest request) {
+    public ResponseEntity<UserSummary> createUser(@Valid @RequestBody UserProfileRequest request) {
 
         log.info("Creating user: {}", request);
 
+        // auth-server retries until acknowledged, so a repeated id means the profile already exists
+        Optional<User> existingUser = userService.findById(request.id());
+        if (existingUser.isPresent()) {
+            log.info("User {} already registered", request.id());
+            return ResponseEntity.ok(UserSummary.from(existingUser.get()));
+        }
+
         User user = User.builder()
                 .id(request.id())
                 .email(request.email())
@@ -56,16 +78,16 @@ public class UserController implements IUserController {
 
         User savedUser = userService.save(user);
 
-        return ResponseEntity.status(HttpStatus.CREATED.value()).body(savedUser);
+        return ResponseEntity.status(HttpStatus.CREATED.value()).body(UserSummary.from(savedUser));
     }
 
     @PostMapping("/profile-picture/")
     @Override
-    public ResponseEntity<User> uploadProfilePicture(@RequestParam("file") MultipartFile file,
+    public ResponseEntity<UserSummary> uploadProfilePicture(@RequestParam("file") MultipartFile file,
                                                      @RequestHeader(HEADER_USER_ID) String userId) {
         log.info("Uploading profile picture: {} \nFor userId: {}", file, userId);
         User updatedUser = userService.updateProfilePicture(userId, file);
-        return ResponseEntity.ok(updatedUser);
+        return ResponseEntity.ok(UserSummary.from(updatedUser));
     }
 
     @GetMapping("/activate")
@@ -123,50 +145,62 @@ public class UserController implements IUserController {
             @RequestHeader(value = "X-Permissions", required = false) String permissions
     ) {
 
-        log.info("Retrieving profile info for user ID: {}", userId);
-        log.info("Retrieving profile info for roles: {}", roles);
-        log.info("Retrieving profile info for permissions: {}", permissions);
-
-        User userFound = userService.findById(userId).orElseThrow(() -> new RuntimeException("User not found"));
-        ProfileResponse profileResponse = ProfileResponse.builder()
-                .email(userFound.getEmail())
-                .firstName(userFound.getFirstName())
-                .lastName(userFound.getLastName())
-                .phoneNumber(userFound.getPhoneNumber())
-                .gender(userFound.getGender() != null ? userFound.getGender().toString() : null)
-                .birthDate(userFound.getBirthDate())
-                .profilePictureUrl(userFound.getProfilePictureUrl() != null ? userFound.getProfilePictureUrl() : null)
-                .professionalSummary(userFound.getProfessionalSummary())
-                .address(mapAddress(userFound))
-                .build();
+        log.debug("Retrieving profile info for user ID: {} (roles: {}, permissions: {})", userId, roles, permissions);
 
-        log.info("User profile info for user ID: {} - {}", userId, profileResponse);
+        return ResponseEntity.ok(profileService.getProfile(userId));
+    }
 
-        return ResponseEntity.ok(profileResponse);
+    @GetMapping("/page")
+    public ResponseEntity<UserPage> listUsers(@RequestParam(value = "cursor", required = false) String cursor,
+                                              @RequestParam(value = "size", defaultValue = "50") int size,
+                                              @RequestHeader(value = HEADER_ROLES, required = false) String roles) {
+        if (!isAdmin(roles)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(userService.findPage(cursor, size));
     }
 
-    private Address mapAddress(User user) {
-        if (user.getAddress() != null) {
-            return Address.builder()
-                    .city(user.getAddress().getCity() != null ? user.getAddress().getCity() : "")
-                    .country(user.getAddress().getCountry() != null ? user.getAddress().getCountry() : "")
-                    .country(user.getAddress().getCountry() != null ? user.getAddress().getCountry() : "")
-                    .postalCode(user.getAddress().getPostalCode() != null ? user.getAddress().getPostalCode() : "")
-                    .street(user.getAddress().getStreet() != null ? user.getAddress().getStreet() : "")
-                    .stateOrProvince(user.getAddress().getStateOrProvince() != null ? user.getAddress().getStateOrProvince() : "")
-                    .build();
+    @GetMapping("/export")
+    public void exportUsers(@RequestParam(value = "format", defaultValue = "ndjson") String format,
+                            @RequestHeader(value = HEADER_ROLES, required = false) String roles,
+                            HttpServletResponse response) throws IOException {
+        if (!isAdmin(roles)) {
+            response.sendError(HttpStatus.FORBIDDEN.value());
+            return;
         }
+        UserService.ExportFormat exportFormat = UserService.ExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentType(exportFormat == UserService.ExportFormat.CSV ? "text/csv" : "application/x-ndjson");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("users." + exportFormat.name().toLowerCase(Locale.ROOT)).build().toString());
 
-        return Address.builder()
-                .build();
+        userService.exportUsers(exportFormat, response.getWriter());
+    }
+
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"}, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ImportReport> importUsers(@RequestHeader(value = HEADER_ROLES, required = false) String roles,
+                                                    HttpServletRequest request) throws IOException {
+        if (!isAdmin(roles)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        UserImportService.ImportFormat format = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.parseMediaType("text/csv"))
+                ? UserImportService.ImportFormat.CSV
+                : UserImportService.ImportFormat.NDJSON;
+
+        // The body is read as it arrives, one chunk of rows at a time
+        try (Reader body = new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8)) {
+            return ResponseEntity.ok(userImportService.importUsers(format, body));
+        }
+    }
+
+    private static boolean isAdmin(String rolesHeader) {
+        return rolesHeader != null && Arrays.asList(rolesHeader.split(",")).contains("ROLE_ADMIN");
     }
 
     //TODO: Move the validation to the services
     @GetMapping("/{token}/activated")
     public ResponseEntity<Boolean> validationAccountActivation(@PathVariable String token) {
-        User user = userService.findById(token).orElseThrow(() -> new RuntimeException("User not found"));
-
-        return ResponseEntity.status(HttpStatus.OK).body(user.isActive());
+        return ResponseEntity.status(HttpStatus.OK).body(userService.isActive(token));
     }
 
     @Getter
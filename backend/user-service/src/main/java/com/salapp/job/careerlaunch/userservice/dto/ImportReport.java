@@ -0,0 +1,16 @@
+package com.salapp.job.careerlaunch.userservice.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk user import. Rows listed in {@code errors} were skipped; every other row was imported.
+ * Only the first errors are listed, see {@code errorsTruncated}.
+ */
+public record ImportReport(int imported, int failed, List<RowError> errors, boolean errorsTruncated) {
+
+    /**
+     * @param line 1-based line of the rejected row in the request body
+     */
+    public record RowError(long line, String message) {
+    }
+}
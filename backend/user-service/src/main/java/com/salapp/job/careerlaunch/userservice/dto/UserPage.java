@@ -0,0 +1,10 @@
+package com.salapp.job.careerlaunch.userservice.dto;
+
+import java.util.List;
+
+/**
+ * One page of users in creation order. Pass {@code nextCursor} back to get the following page; it is null on the
+ * last page.
+ */
+public record UserPage(List<UserSummary> users, String nextCursor) {
+}
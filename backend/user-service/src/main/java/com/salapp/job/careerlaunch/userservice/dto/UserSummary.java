@@ -0,0 +1,19 @@
+package com.salapp.job.careerlaunch.userservice.dto;
+
+import com.salapp.job.careerlaunch.userservice.model.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * Public identity of a user, loaded as a Spring Data DTO projection so only these columns are selected.
+ * Component names must match the {@code User} properties. Also the response body of endpoints that return a user,
+ * so that activation tokens and other internal columns are never serialised.
+ */
+public record UserSummary(String id, String email, String firstName, String lastName, String profilePictureUrl,
+                          boolean isActive, LocalDateTime createdAt) {
+
+    public static UserSummary from(User user) {
+        return new UserSummary(user.getId(), user.getEmail(), user.getFirstName(), user.getLastName(),
+                user.getProfilePictureUrl(), user.isActive(), user.getCreatedAt());
+    }
+}
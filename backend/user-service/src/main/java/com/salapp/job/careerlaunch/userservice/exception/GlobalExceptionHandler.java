@@ -1,12 +1,14 @@
 package com.salapp.job.careerlaunch.userservice.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 /**
@@ -50,6 +52,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    /**
+     * Handles uploads rejected because the image worker pool is saturated.
+     *
+     * @param ex The exception thrown
+     * @return ResponseEntity containing the structured error response
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ExceptionResponse> handleRejectedExecution(RejectedExecutionException ex) {
+        log.warn("Image processing saturated: {}", ex.getMessage());
+        ExceptionResponse response = ExceptionResponse.builder(HttpStatus.SERVICE_UNAVAILABLE.value(), "Too many uploads in progress")
+                .detail("Please retry the upload shortly")
+                .errorCode("UPLOAD_BUSY")
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5").body(response);
+    }
+
     /**
      * Handles validation errors from @Valid annotations.
      *
@@ -0,0 +1,58 @@
+package com.salapp.job.careerlaunch.userservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Kafka event recorded in the same transaction as the {@link User} change that produced it, and published
+ * afterwards by the outbox relay. Rows that keep failing are retried with backoff and finally parked with
+ * {@code failedAt} set, so they cannot hold up the rows behind them.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_sent_at", columnList = "sentAt")
+})
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String topic;
+
+    @Column(length = 255)
+    private String eventKey;
+
+    // Simple class name of the payload, e.g. NotificationRequest
+    @Column(nullable = false, length = 100)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column
+    private LocalDateTime sentAt;
+
+    // Failed publish attempts; the relay skips the row until nextAttemptAt
+    @Builder.Default
+    @Column(nullable = false, columnDefinition = "integer default 0 not null")
+    private int attempts = 0;
+
+    @Column
+    private LocalDateTime nextAttemptAt;
+
+    // Set once the row has failed outbox.relay.max-attempts times; it is never retried after that
+    @Column
+    private LocalDateTime failedAt;
+}
@@ -0,0 +1,26 @@
+package com.salapp.job.careerlaunch.userservice.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+/**
+ * Paths of the stored renditions of a profile picture. Each path is content-addressed, so it changes whenever
+ * the picture does.
+ */
+@Embeddable
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProfilePicture {
+
+    @Column(name = "profile_picture_thumbnail", length = 120)
+    private String thumbnail;
+
+    @Column(name = "profile_picture_medium", length = 120)
+    private String medium;
+
+    @Column(name = "profile_picture_original", length = 120)
+    private String original;
+}
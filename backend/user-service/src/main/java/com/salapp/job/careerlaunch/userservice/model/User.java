@@ -16,7 +16,12 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "users", indexes = {
         @Index(name = "idx_users_id", columnList = "id", unique = true),
-        @Index(name = "idx_users_email", columnList = "email", unique = true)
+        @Index(name = "idx_users_email", columnList = "email", unique = true),
+        @Index(name = "idx_users_activation_selector", columnList = "activationSelector", unique = true),
+        @Index(name = "idx_users_picture_original", columnList = "profile_picture_original"),
+        @Index(name = "idx_users_picture_medium", columnList = "profile_picture_medium"),
+        @Index(name = "idx_users_picture_thumbnail", columnList = "profile_picture_thumbnail"),
+        @Index(name = "idx_users_created_id", columnList = "createdAt, id")
 })
 public class User {
 
@@ -58,15 +63,24 @@ public class User {
     @Version
     private Long version;
 
+    // Medium rendition, used as the avatar URL
     @Column()
     private String profilePictureUrl;
 
+    @Embedded
+    private ProfilePicture profilePicture;
+
     @Column(length = 500)
     private String professionalSummary;
 
     @Column(nullable = false)
     private boolean isActive;
 
+    // Non-secret lookup half of the activation token; null for legacy BCrypt tokens
+    @Column(length = 32)
+    private String activationSelector;
+
+    // HMAC-SHA256 digest of the verifier half (legacy rows still hold a BCrypt hash)
     @Column(length = 300)
     private String activationToken;
 
@@ -0,0 +1,22 @@
+package com.salapp.job.careerlaunch.userservice.repository;
+
+import com.salapp.job.careerlaunch.userservice.model.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Custom repository fragment for writing many {@link OutboxEvent}s at once.
+ * <p>
+ * {@link OutboxEvent} uses an identity id, which prevents Hibernate from batching its inserts. This fragment
+ * writes the rows with a single JDBC batch instead, in the caller's transaction.
+ * </p>
+ */
+public interface OutboxBatchRepository {
+
+    /**
+     * Inserts all events in one JDBC batch. Generated ids are not written back to the entities.
+     *
+     * @param events the events to insert
+     */
+    void insertAll(List<OutboxEvent> events);
+}
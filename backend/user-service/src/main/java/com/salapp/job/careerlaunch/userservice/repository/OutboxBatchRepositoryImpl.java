@@ -0,0 +1,37 @@
+package com.salapp.job.careerlaunch.userservice.repository;
+
+import com.salapp.job.careerlaunch.userservice.model.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * {@link JdbcTemplate} implementation of {@link OutboxBatchRepository}.
+ */
+@RequiredArgsConstructor
+class OutboxBatchRepositoryImpl implements OutboxBatchRepository {
+
+    private static final String INSERT_SQL =
+            "insert into outbox_events (topic, event_key, event_type, payload, created_at) values (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void insertAll(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+            ps.setString(1, event.getTopic());
+            ps.setString(2, event.getEventKey());
+            ps.setString(3, event.getEventType());
+            ps.setString(4, event.getPayload());
+            ps.setTimestamp(5, Timestamp.valueOf(event.getCreatedAt()));
+        });
+    }
+}
@@ -0,0 +1,31 @@
+package com.salapp.job.careerlaunch.userservice.repository;
+
+import com.salapp.job.careerlaunch.userservice.model.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long>, OutboxBatchRepository {
+
+    // Rows locked by another relay instance are skipped rather than waited for, and so are rows backing off or parked
+    @Query(value = "select * from outbox_events where sent_at is null and failed_at is null"
+            + " and (next_attempt_at is null or next_attempt_at <= :now) order by id limit :limit for update skip locked",
+            nativeQuery = true)
+    List<OutboxEvent> lockUnsent(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.sentAt = :sentAt where e.id in :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.sentAt < :cutoff")
+    int deleteSentBefore(@Param("cutoff") LocalDateTime cutoff);
+
+}
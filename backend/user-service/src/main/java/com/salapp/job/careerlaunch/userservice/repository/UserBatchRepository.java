@@ -0,0 +1,23 @@
+package com.salapp.job.careerlaunch.userservice.repository;
+
+import com.salapp.job.careerlaunch.userservice.model.User;
+
+import java.util.List;
+
+/**
+ * Custom repository fragment for inserting many new {@link User}s at once.
+ * <p>
+ * {@link User} has an assigned id, so {@code saveAll} cannot tell new users from existing ones and merges each
+ * of them, which costs a SELECT per row before the insert. Callers that already know the users are new persist them
+ * directly, so the inserts go out as Hibernate JDBC batches.
+ * </p>
+ */
+public interface UserBatchRepository {
+
+    /**
+     * Persists users known not to exist yet, in the caller's transaction.
+     *
+     * @param users the new users
+     */
+    void persistAll(List<User> users);
+}
@@ -0,0 +1,26 @@
+package com.salapp.job.careerlaunch.userservice.repository;
+
+import com.salapp.job.careerlaunch.userservice.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * {@link EntityManager} implementation of {@link UserBatchRepository}.
+ */
+class UserBatchRepositoryImpl implements UserBatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void persistAll(List<User> users) {
+        for (User user : users) {
+            entityManager.persist(user);
+        }
+    }
+}
@@ -1,13 +1,79 @@
 package com.salapp.job.careerlaunch.userservice.repository;
 
+import com.salapp.job.careerlaunch.userservice.dto.UserSummary;
 import com.salapp.job.careerlaunch.userservice.model.User;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, String> {
+public interface UserRepository extends JpaRepository<User, String>, UserBatchRepository {
     Optional<User> findByEmail(String email);
 
+    Optional<UserSummary> findSummaryById(String id);
+
+    Optional<UserSummary> findSummaryByEmail(String email);
+
+    boolean existsByIdAndIsActiveTrue(String id);
+
+    @Query("select u.id from User u where u.id in :ids")
+    Set<String> findExistingIds(Collection<String> ids);
+
+    @Query("select u.email from User u where u.email in :emails")
+    Set<String> findExistingEmails(Collection<String> emails);
+
+    // Keyset pagination in (createdAt, id) order, backed by idx_users_created_id; cost does not grow with the page
+    @Query("""
+            select new com.salapp.job.careerlaunch.userservice.dto.UserSummary(
+                u.id, u.email, u.firstName, u.lastName, u.profilePictureUrl, u.isActive, u.createdAt)
+            from User u
+            order by u.createdAt, u.id
+            """)
+    List<UserSummary> findFirstPage(Limit limit);
+
+    @Query("""
+            select new com.salapp.job.careerlaunch.userservice.dto.UserSummary(
+                u.id, u.email, u.firstName, u.lastName, u.profilePictureUrl, u.isActive, u.createdAt)
+            from User u
+            where u.createdAt > :createdAt or (u.createdAt = :createdAt and u.id > :id)
+            order by u.createdAt, u.id
+            """)
+    List<UserSummary> findPageAfter(LocalDateTime createdAt, String id, Limit limit);
+
+    // Forward-only cursor; the caller must consume and close the stream inside a transaction
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            select new com.salapp.job.careerlaunch.userservice.dto.UserSummary(
+                u.id, u.email, u.firstName, u.lastName, u.profilePictureUrl, u.isActive, u.createdAt)
+            from User u
+            order by u.createdAt, u.id
+            """)
+    Stream<UserSummary> streamAll();
+
+    Optional<User> findByActivationSelector(String activationSelector);
+
+    // Tokens issued before the selector format; the set drains once they pass their 24h expiry
+    List<User> findByActivationSelectorIsNullAndActivationTokenIsNotNullAndActivationTokenExpiryAfter(LocalDateTime now);
+
+    // Number of users whose profile picture uses the stored blob at this path, in any rendition
+    @Query("""
+            select count(u) from User u
+            where u.profilePicture.original = :path
+               or u.profilePicture.medium = :path
+               or u.profilePicture.thumbnail = :path
+            """)
+    long countProfilePictureReferences(String path);
+
 }
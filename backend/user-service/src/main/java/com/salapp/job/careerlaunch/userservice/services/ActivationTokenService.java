@@ -0,0 +1,102 @@
+package com.salapp.job.careerlaunch.userservice.services;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Issues and verifies account activation tokens in the {@code selector.verifier} format.
+ * <p>
+ * The selector is a random, non-secret value stored in an indexed column so the owning user can be
+ * located with a single lookup. The verifier is only ever stored as an HMAC-SHA256 digest keyed with
+ * {@code activation.token.secret}, and is checked with a constant-time comparison.
+ * </p>
+ */
+@Service
+public class ActivationTokenService {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final char SEPARATOR = '.';
+    private static final int SELECTOR_BYTES = 12;
+    private static final int VERIFIER_BYTES = 32;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final SecretKeySpec secretKey;
+
+    public ActivationTokenService(@Value("${activation.token.secret}") String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("activation.token.secret must be configured");
+        }
+        this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+    }
+
+    /**
+     * A freshly issued token: {@code rawToken} goes to the user, the other two values are persisted.
+     */
+    public record IssuedToken(String rawToken, String selector, String verifierHash) {
+    }
+
+    /**
+     * The two halves of a presented token.
+     */
+    public record ParsedToken(String selector, String verifier) {
+    }
+
+    public IssuedToken issue() {
+        String selector = randomUrlSafe(SELECTOR_BYTES);
+        String verifier = randomUrlSafe(VERIFIER_BYTES);
+        return new IssuedToken(selector + SEPARATOR + verifier, selector, hash(verifier));
+    }
+
+    /**
+     * Splits a presented token into selector and verifier.
+     *
+     * @return empty if the token is not in the {@code selector.verifier} format (e.g. a legacy UUID token)
+     */
+    public Optional<ParsedToken> parse(String rawToken) {
+        if (rawToken == null) {
+            return Optional.empty();
+        }
+        int separator = rawToken.indexOf(SEPARATOR);
+        if (separator <= 0 || separator == rawToken.length() - 1 || rawToken.indexOf(SEPARATOR, separator + 1) != -1) {
+            return Optional.empty();
+        }
+        return Optional.of(new ParsedToken(rawToken.substring(0, separator), rawToken.substring(separator + 1)));
+    }
+
+    public boolean matches(String verifier, String storedHash) {
+        if (verifier == null || storedHash == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                hash(verifier).getBytes(StandardCharsets.US_ASCII),
+                storedHash.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    String hash(String verifier) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(secretKey);
+            return HexFormat.of().formatHex(mac.doFinal(verifier.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to compute activation token digest", e);
+        }
+    }
+
+    private String randomUrlSafe(int length) {
+        byte[] bytes = new byte[length];
+        secureRandom.nextBytes(bytes);
+        return ENCODER.encodeToString(bytes);
+    }
+}
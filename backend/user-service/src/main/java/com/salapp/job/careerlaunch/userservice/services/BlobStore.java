@@ -0,0 +1,39 @@
+package com.salapp.job.careerlaunch.userservice.services;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+
+/**
+ * Content-addressed storage for uploaded files.
+ * <p>
+ * A blob is keyed by the hex SHA-256 of its bytes plus an extension, for example {@code 9f86d0...0a08.jpg}. Storing
+ * the same content twice yields the same key and keeps a single copy. Blobs are never overwritten in place, so a key
+ * always refers to the same bytes and can be cached forever.
+ * </p>
+ */
+public interface BlobStore {
+
+    /**
+     * Stores the content and returns its key. If a blob with the same content already exists it is kept and marked
+     * as written now, which protects it from a concurrent {@link #delete(String, Instant)}.
+     */
+    String put(InputStream content, String extension) throws IOException;
+
+    default String put(byte[] content, String extension) throws IOException {
+        return put(new ByteArrayInputStream(content), extension);
+    }
+
+    /**
+     * Deletes a blob unless it was written at or after {@code writtenBefore}.
+     *
+     * @return whether the blob was deleted
+     */
+    boolean delete(String key, Instant writtenBefore) throws IOException;
+
+    /**
+     * @return the path under which the gateway serves the blob, without a leading slash
+     */
+    String publicPath(String key);
+}
@@ -1,54 +1,102 @@
 package com.salapp.job.careerlaunch.userservice.services;
 
+import com.salapp.job.careerlaunch.userservice.model.ProfilePicture;
+import com.salapp.job.careerlaunch.userservice.repository.UserRepository;
+import com.salapp.job.careerlaunch.userservice.services.ImageProcessingService.ResizedVariants;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.util.Objects;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
+/**
+ * Stores profile pictures in the {@link BlobStore}.
+ * <p>
+ * Identical uploads share one blob, and a changed picture always gets a new URL. A blob is referenced by the
+ * {@link ProfilePicture} paths of users; when a user replaces their picture, the old blobs are deleted once no user
+ * references them anymore. Blobs written within {@code file.blob.delete-grace} are kept, because an upload of the
+ * same content may be in flight and not yet committed.
+ * </p>
+ */
 @Slf4j
 @Service
 public class FileStorageService {
 
-    @Value("${file.upload-dir}")
-    private String uploadDir;
+    private final ImageProcessingService imageProcessingService;
+    private final BlobStore blobStore;
+    private final UserRepository userRepository;
+    private final Duration deleteGrace;
 
-    public String storeFile(MultipartFile file) {
+    public FileStorageService(ImageProcessingService imageProcessingService,
+                              BlobStore blobStore,
+                              UserRepository userRepository,
+                              @Value("${file.blob.delete-grace:PT1H}") Duration deleteGrace) {
+        this.imageProcessingService = imageProcessingService;
+        this.blobStore = blobStore;
+        this.userRepository = userRepository;
+        this.deleteGrace = deleteGrace;
+    }
 
+    /**
+     * Validates an uploaded picture and stores its original, medium and thumbnail renditions.
+     *
+     * @throws IllegalArgumentException if the upload is empty or not a supported image
+     */
+    public ProfilePicture storeProfilePicture(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new IllegalArgumentException("File cannot be null or empty");
         }
 
-        String contentType = file.getContentType();
+        ResizedVariants variants = imageProcessingService.process(file::getInputStream);
+        try (InputStream in = file.getInputStream()) {
+            String original = blobStore.put(in, variants.originalFormat().extension());
+            String medium = blobStore.put(variants.medium().bytes(), variants.medium().extension());
+            String thumbnail = blobStore.put(variants.thumbnail().bytes(), variants.thumbnail().extension());
+            log.info("Stored profile picture {} ({} bytes, medium {} bytes, thumbnail {} bytes)", original,
+                    file.getSize(), variants.medium().bytes().length, variants.thumbnail().bytes().length);
 
-        assert contentType != null;
-        if (!contentType.startsWith("image/")) {
-            throw new IllegalArgumentException("Only image files are allowed");
+            return ProfilePicture.builder()
+                    .original(blobStore.publicPath(original))
+                    .medium(blobStore.publicPath(medium))
+                    .thumbnail(blobStore.publicPath(thumbnail))
+                    .build();
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Could not store profile picture", exception);
         }
+    }
 
-        String fileName = StringUtils.cleanPath(Objects.requireNonNull(file.getOriginalFilename()));
-        log.info("Storing file: {}", fileName);
-        try {
-            Path uploadPath = Paths.get(uploadDir);
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectory(uploadPath);
+    /**
+     * Deletes the blobs of a replaced picture that no user references anymore. Call after the replacement is saved.
+     * Failures are logged and leave the blob in place.
+     */
+    public void release(ProfilePicture picture) {
+        if (picture == null) {
+            return;
+        }
+        Set<String> paths = new LinkedHashSet<>();
+        for (String path : new String[]{picture.getOriginal(), picture.getMedium(), picture.getThumbnail()}) {
+            if (path != null) {
+                paths.add(path);
             }
-            Path filePath = uploadPath.resolve(fileName);
-            log.info("Storing file: {}", filePath);
-
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
 
-            return filePath.toString();
-        } catch (IOException exception) {
-            throw new RuntimeException("Could not store file " + fileName, exception);
+        Instant writtenBefore = Instant.now().minus(deleteGrace);
+        for (String path : paths) {
+            if (userRepository.countProfilePictureReferences(path) > 0) {
+                continue;
+            }
+            try {
+                blobStore.delete(path.substring(path.lastIndexOf('/') + 1), writtenBefore);
+            } catch (IOException | IllegalArgumentException e) {
+                log.warn("Could not release blob {}: {}", path, e.getMessage());
+            }
         }
     }
-
-}
\ No newline at end of file
+}
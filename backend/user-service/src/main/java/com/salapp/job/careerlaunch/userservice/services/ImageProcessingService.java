@@ -0,0 +1,257 @@
+package com.salapp.job.careerlaunch.userservice.services;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turns an uploaded profile picture into the resized variants served to clients.
+ * <p>
+ * The real format is sniffed from the leading magic bytes; the declared content type is ignored. Images are
+ * decoded once, with source subsampling chosen from the header dimensions, so a full-resolution bitmap of a large
+ * phone photo is never held in memory. The medium variant is scaled from that decode and the thumbnail from the
+ * medium variant. Work runs on a small bounded pool, which caps the decode memory in use at any time; when the pool
+ * and its queue are full, uploads are rejected instead of piling up.
+ * </p>
+ */
+@Slf4j
+@Service
+public class ImageProcessingService {
+
+    public static final int MEDIUM_SIZE = 512;
+    public static final int THUMBNAIL_SIZE = 96;
+
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private final ThreadPoolExecutor executor;
+    private final long maxPixels;
+
+    public ImageProcessingService(@Value("${file.image.workers:2}") int workers,
+                                  @Value("${file.image.queue-capacity:8}") int queueCapacity,
+                                  @Value("${file.image.max-pixels:50000000}") long maxPixels) {
+        this.maxPixels = maxPixels;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), Thread.ofPlatform().name("image-worker-", 0).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Supported upload formats, identified by their magic bytes.
+     */
+    public enum ImageFormat {
+        JPEG("jpg", "image/jpeg"),
+        PNG("png", "image/png"),
+        GIF("gif", "image/gif");
+
+        private final String extension;
+        private final String mediaType;
+
+        ImageFormat(String extension, String mediaType) {
+            this.extension = extension;
+            this.mediaType = mediaType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        public String mediaType() {
+            return mediaType;
+        }
+
+        /**
+         * @param header at least the first 8 bytes of the file
+         * @return the detected format, or empty if it is not a supported image
+         */
+        public static Optional<ImageFormat> sniff(byte[] header) {
+            if (startsWith(header, 0xFF, 0xD8, 0xFF)) {
+                return Optional.of(JPEG);
+            }
+            if (startsWith(header, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+                return Optional.of(PNG);
+            }
+            if (startsWith(header, 'G', 'I', 'F', '8')) {
+                return Optional.of(GIF);
+            }
+            return Optional.empty();
+        }
+
+        private static boolean startsWith(byte[] header, int... magic) {
+            if (header.length < magic.length) {
+                return false;
+            }
+            for (int i = 0; i < magic.length; i++) {
+                if ((header[i] & 0xFF) != magic[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * An encoded variant ready to be stored.
+     */
+    public record EncodedImage(byte[] bytes, String extension, String mediaType) {
+    }
+
+    /**
+     * Medium and thumbnail renditions of an upload. The original is stored as uploaded.
+     */
+    public record ResizedVariants(ImageFormat originalFormat, EncodedImage medium, EncodedImage thumbnail) {
+    }
+
+    /**
+     * Provides a fresh stream over the uploaded bytes each time it is called.
+     */
+    @FunctionalInterface
+    public interface ImageSource {
+        InputStream open() throws IOException;
+    }
+
+    /**
+     * Sniffs, decodes and resizes an upload on the worker pool.
+     *
+     * @throws IllegalArgumentException                       if the upload is not a supported, decodable image
+     * @throws java.util.concurrent.RejectedExecutionException if the pool is saturated
+     */
+    public ResizedVariants process(ImageSource source) {
+        Future<ResizedVariants> result = executor.submit(() -> resize(source));
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while processing image", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Could not process image", e.getCause());
+        }
+    }
+
+    /**
+     * Detects the format of an upload from its magic bytes.
+     *
+     * @throws IllegalArgumentException if the format is not supported
+     */
+    public ImageFormat detectFormat(ImageSource source) {
+        try (InputStream in = source.open()) {
+            byte[] header = in.readNBytes(8);
+            return ImageFormat.sniff(header)
+                    .orElseThrow(() -> new IllegalArgumentException("Only JPEG, PNG and GIF images are allowed"));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read image", e);
+        }
+    }
+
+    private ResizedVariants resize(ImageSource source) throws IOException {
+        ImageFormat format = detectFormat(source);
+
+        BufferedImage decoded;
+        try (InputStream in = source.open(); ImageInputStream imageInput = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInput);
+            if (!readers.hasNext()) {
+                throw new IllegalArgumentException("Unreadable " + format + " image");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new IllegalArgumentException("Image exceeds " + maxPixels + " pixels");
+                }
+
+                // Largest integer step that still leaves the longer side at least MEDIUM_SIZE pixels
+                int subsampling = Math.max(1, Math.max(width, height) / MEDIUM_SIZE);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                decoded = reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unreadable " + format + " image", e);
+        }
+
+        BufferedImage medium = scale(decoded, MEDIUM_SIZE);
+        BufferedImage thumbnail = scale(medium, THUMBNAIL_SIZE);
+        boolean alpha = decoded.getColorModel().hasAlpha();
+        log.debug("Resized {} image from {}x{} decode", format, decoded.getWidth(), decoded.getHeight());
+
+        return new ResizedVariants(format, encode(medium, alpha), encode(thumbnail, alpha));
+    }
+
+    /**
+     * Scales so that the longer side is at most {@code maxSize}, keeping the aspect ratio. Never upscales.
+     */
+    static BufferedImage scale(BufferedImage image, int maxSize) {
+        int longer = Math.max(image.getWidth(), image.getHeight());
+        boolean alpha = image.getColorModel().hasAlpha();
+        double ratio = Math.min(1.0, (double) maxSize / longer);
+        int width = Math.max(1, (int) Math.round(image.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * ratio));
+
+        BufferedImage scaled = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    private static EncodedImage encode(BufferedImage image, boolean alpha) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (alpha) {
+            ImageIO.write(image, "png", out);
+            return new EncodedImage(out.toByteArray(), ImageFormat.PNG.extension(), ImageFormat.PNG.mediaType());
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOutput);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return new EncodedImage(out.toByteArray(), ImageFormat.JPEG.extension(), ImageFormat.JPEG.mediaType());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,131 @@
+package com.salapp.job.careerlaunch.userservice.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * {@link BlobStore} on the local file system, sharded by the first two bytes of the hash
+ * ({@code ab/cd/abcd...ef.jpg}), which keeps every directory at no more than 256 entries plus its own blobs.
+ * <p>
+ * Content is streamed to a temporary file under {@code .tmp/} while it is hashed and then renamed into place
+ * atomically, so readers never see a partial blob.
+ * </p>
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "file.blob.store", havingValue = "local", matchIfMissing = true)
+public class LocalBlobStore implements BlobStore {
+
+    private static final Pattern KEY = Pattern.compile("[0-9a-f]{64}\\.[a-z0-9]{1,5}");
+    private static final String PUBLIC_PREFIX = "uploads/";
+
+    private final Path root;
+    private final Path tempDir;
+
+    public LocalBlobStore(@Value("${file.upload-dir}") String uploadDir) {
+        this.root = Paths.get(uploadDir);
+        this.tempDir = root.resolve(".tmp");
+    }
+
+    @Override
+    public String put(InputStream content, String extension) throws IOException {
+        Files.createDirectories(tempDir);
+        Path temp = Files.createTempFile(tempDir, "blob-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(content, digest)) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String key = key(digest.digest(), extension);
+            Path target = resolve(key);
+            if (!touchIfExists(target)) {
+                Files.createDirectories(target.getParent());
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+            return key;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public String put(byte[] content, String extension) throws IOException {
+        // The hash is known before writing, so a duplicate costs no disk write at all
+        String key = key(sha256().digest(content), extension);
+        Path target = resolve(key);
+        if (touchIfExists(target)) {
+            return key;
+        }
+        Files.createDirectories(tempDir);
+        Path temp = Files.createTempFile(tempDir, "blob-", ".tmp");
+        try {
+            Files.write(temp, content);
+            Files.createDirectories(target.getParent());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            return key;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public boolean delete(String key, Instant writtenBefore) throws IOException {
+        Path target = resolve(key);
+        if (!Files.exists(target) || !Files.getLastModifiedTime(target).toInstant().isBefore(writtenBefore)) {
+            return false;
+        }
+        log.info("Deleting unreferenced blob {}", key);
+        return Files.deleteIfExists(target);
+    }
+
+    @Override
+    public String publicPath(String key) {
+        return PUBLIC_PREFIX + root.relativize(resolve(key)).toString().replace('\\', '/');
+    }
+
+    /**
+     * @throws IllegalArgumentException if the key is not a blob key
+     */
+    public Path resolve(String key) {
+        if (!KEY.matcher(key).matches()) {
+            throw new IllegalArgumentException("Invalid blob key: " + key);
+        }
+        return root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+    }
+
+    private static boolean touchIfExists(Path target) throws IOException {
+        if (!Files.exists(target)) {
+            return false;
+        }
+        Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+        return true;
+    }
+
+    private static String key(byte[] hash, String extension) {
+        return HexFormat.of().formatHex(hash) + "." + extension;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.salapp.job.careerlaunch.userservice.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.salapp.career.launch.shared.library.NotificationRequest;
+import com.salapp.career.launch.shared.library.UserActivatedEvent;
+import com.salapp.job.careerlaunch.userservice.model.OutboxEvent;
+import com.salapp.job.careerlaunch.userservice.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Publishes pending {@link OutboxEvent}s in batches.
+ * <p>
+ * Each poll locks up to {@code outbox.relay.batch-size} unsent rows with {@code FOR UPDATE SKIP LOCKED}, hands
+ * all of them to the producer at once so they share producer batches (see {@code spring.kafka.producer} linger and
+ * batch size), waits for the acknowledgements and marks the acknowledged rows as sent with a single update. Rows
+ * whose send failed stay unsent and are retried after an exponential backoff, so delivery is at-least-once; after
+ * {@code outbox.relay.max-attempts} failures a row is parked with {@code failedAt} set and logged. A batch with any
+ * failure ends the current poll, so a failing broker is not hammered in a tight loop. The producer's
+ * {@code max.block.ms} and {@code delivery.timeout.ms} are kept below {@link #SEND_TIMEOUT}, and no new sends are
+ * started after it, so a batch never holds its row locks much longer than that.
+ * </p>
+ */
+@Slf4j
+@Service
+public class OutboxRelay {
+
+    private static final Duration SEND_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(10);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, NotificationRequest> notificationKafkaTemplate;
+    private final KafkaTemplate<String, UserActivatedEvent> accountEventsKafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration retention;
+    private final int maxAttempts;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       KafkaTemplate<String, NotificationRequest> notificationKafkaTemplate,
+                       KafkaTemplate<String, UserActivatedEvent> accountEventsKafkaTemplate,
+                       ObjectMapper objectMapper,
+                       TransactionTemplate transactionTemplate,
+                       @Value("${outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${outbox.relay.retention:P7D}") Duration retention,
+                       @Value("${outbox.relay.max-attempts:20}") int maxAttempts) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.notificationKafkaTemplate = notificationKafkaTemplate;
+        this.accountEventsKafkaTemplate = accountEventsKafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.retention = retention;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:200}")
+    public void relay() {
+        Integer published;
+        do {
+            published = transactionTemplate.execute(status -> publishBatch());
+            // Only a full batch that was sent completely suggests more rows are waiting
+        } while (published != null && published == batchSize);
+    }
+
+    @Scheduled(cron = "${outbox.relay.cleanup-cron:0 0 3 * * *}")
+    public void deleteSentEvents() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deleteSentBefore(LocalDateTime.now().minus(retention)));
+        log.info("Deleted {} sent outbox events", deleted);
+    }
+
+    /**
+     * Publishes one batch. Must run inside a transaction so that the row locks are held until the rows are marked.
+     *
+     * @return the number of rows sent
+     */
+    int publishBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = outboxEventRepository.lockUnsent(now, batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        long deadline = System.nanoTime() + SEND_TIMEOUT.toNanos();
+        Map<OutboxEvent, CompletableFuture<?>> sends = new LinkedHashMap<>();
+        for (OutboxEvent event : events) {
+            // Sends can block up to max.block.ms while the broker is unreachable; leave the rest for a later poll
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+            sends.put(event, send(event));
+        }
+
+        List<Long> sentIds = new ArrayList<>(events.size());
+        for (Map.Entry<OutboxEvent, CompletableFuture<?>> send : sends.entrySet()) {
+            OutboxEvent event = send.getKey();
+            try {
+                send.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                sentIds.add(event.getId());
+            } catch (ExecutionException | TimeoutException e) {
+                recordFailure(event, now, e instanceof ExecutionException ? e.getCause() : e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        if (!sentIds.isEmpty()) {
+            outboxEventRepository.markSent(sentIds, now);
+        }
+        log.debug("Published {} of {} outbox events", sentIds.size(), events.size());
+        return sentIds.size();
+    }
+
+    /**
+     * Schedules the next attempt of a managed row, or parks it once it has used up its attempts. The change is
+     * flushed with the batch's transaction.
+     */
+    private void recordFailure(OutboxEvent event, LocalDateTime now, Throwable cause) {
+        int attempts = event.getAttempts() + 1;
+        event.setAttempts(attempts);
+        if (attempts >= maxAttempts) {
+            event.setFailedAt(now);
+            log.error("Giving up on outbox event {} ({}) after {} attempts: {}", event.getId(), event.getEventType(),
+                    attempts, String.valueOf(cause));
+            return;
+        }
+        long backoffSeconds = Math.min(MAX_BACKOFF.toSeconds(), 1L << Math.min(attempts, 30));
+        event.setNextAttemptAt(now.plusSeconds(backoffSeconds));
+        log.warn("Failed to publish outbox event {} (attempt {}), retrying in {}s: {}", event.getId(), attempts,
+                backoffSeconds, String.valueOf(cause));
+    }
+
+    private CompletableFuture<?> send(OutboxEvent event) {
+        try {
+            return switch (event.getEventType()) {
+                case "NotificationRequest" -> notificationKafkaTemplate.send(event.getTopic(), event.getEventKey(),
+                        objectMapper.readValue(event.getPayload(), NotificationRequest.class));
+                case "UserActivatedEvent" -> accountEventsKafkaTemplate.send(event.getTopic(), event.getEventKey(),
+                        objectMapper.readValue(event.getPayload(), UserActivatedEvent.class));
+                default -> CompletableFuture.failedFuture(
+                        new IllegalStateException("Unknown outbox event type " + event.getEventType()));
+            };
+        } catch (JsonProcessingException | RuntimeException e) {
+            // Unreadable payloads and synchronous producer errors fail this event only
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
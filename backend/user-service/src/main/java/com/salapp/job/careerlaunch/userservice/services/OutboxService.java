@@ -0,0 +1,62 @@
+package com.salapp.job.careerlaunch.userservice.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.salapp.job.careerlaunch.userservice.model.OutboxEvent;
+import com.salapp.job.careerlaunch.userservice.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Records Kafka events in the outbox table; {@link OutboxRelay} publishes them.
+ */
+@RequiredArgsConstructor
+@Service
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Adds an event to the caller's transaction, so it is only published if that transaction commits.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OutboxEvent enqueue(String topic, String key, Object payload) {
+        return outboxEventRepository.save(toEvent(topic, key, payload));
+    }
+
+    /**
+     * Adds many events to the caller's transaction with one JDBC batch.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueAll(String topic, List<Message> messages) {
+        outboxEventRepository.insertAll(messages.stream()
+                .map(message -> toEvent(topic, message.key(), message.payload()))
+                .toList());
+    }
+
+    /**
+     * An event payload together with its Kafka key.
+     */
+    public record Message(String key, Object payload) {
+    }
+
+    private OutboxEvent toEvent(String topic, String key, Object payload) {
+        try {
+            return OutboxEvent.builder()
+                    .topic(topic)
+                    .eventKey(key)
+                    .eventType(payload.getClass().getSimpleName())
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .createdAt(LocalDateTime.now())
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unable to serialize outbox event for topic " + topic, e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.salapp.job.careerlaunch.userservice.services;
+
+/**
+ * Published whenever data shown in a user's profile changes, so cached copies can be dropped.
+ */
+public record ProfileChangedEvent(String userId) {
+}
@@ -0,0 +1,71 @@
+package com.salapp.job.careerlaunch.userservice.services;
+
+import com.salapp.job.careerlaunch.userservice.dto.ProfileResponse;
+import com.salapp.job.careerlaunch.userservice.exception.UserNotFoundException;
+import com.salapp.job.careerlaunch.userservice.model.Address;
+import com.salapp.job.careerlaunch.userservice.model.User;
+import com.salapp.job.careerlaunch.userservice.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Read-through cache of {@link ProfileResponse}s, which the frontend requests on every page load.
+ * <p>
+ * Entries live in the {@value #CACHE} cache (Caffeine, bounded and expiring, see {@code spring.cache.caffeine.spec})
+ * and are evicted by {@link ProfileChangedEvent}s once the change has been committed, so the next read cannot
+ * repopulate the cache with the old row. The expiry only bounds staleness from writes that bypass
+ * {@link UserService}.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProfileService {
+
+    public static final String CACHE = "profiles";
+
+    private final UserRepository userRepository;
+
+    @Cacheable(cacheNames = CACHE, key = "#userId")
+    @Transactional(readOnly = true)
+    public ProfileResponse getProfile(String userId) {
+        User user = userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException("User not found with id: " + userId));
+
+        return ProfileResponse.builder()
+                .email(user.getEmail())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .phoneNumber(user.getPhoneNumber())
+                .gender(user.getGender() != null ? user.getGender().toString() : null)
+                .birthDate(user.getBirthDate())
+                .profilePictureUrl(user.getProfilePictureUrl())
+                .professionalSummary(user.getProfessionalSummary())
+                .address(mapAddress(user.getAddress()))
+                .build();
+    }
+
+    // fallbackExecution covers changes saved outside a transaction, which are already committed when published
+    @TransactionalEventListener(fallbackExecution = true)
+    @CacheEvict(cacheNames = CACHE, key = "#event.userId")
+    public void onProfileChanged(ProfileChangedEvent event) {
+        log.debug("Evicting cached profile of user {}", event.userId());
+    }
+
+    private static Address mapAddress(Address address) {
+        if (address == null) {
+            return Address.builder().build();
+        }
+        return Address.builder()
+                .city(address.getCity() != null ? address.getCity() : "")
+                .country(address.getCountry() != null ? address.getCountry() : "")
+                .postalCode(address.getPostalCode() != null ? address.getPostalCode() : "")
+                .street(address.getStreet() != null ? address.getStreet() : "")
+                .stateOrProvince(address.getStateOrProvince() != null ? address.getStateOrProvince() : "")
+                .build();
+    }
+}
@@ -0,0 +1,296 @@
+package com.salapp.job.careerlaunch.userservice.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.salapp.career.launch.shared.library.NotificationRequest;
+import com.salapp.job.careerlaunch.userservice.dto.ImportReport;
+import com.salapp.job.careerlaunch.userservice.dto.ImportReport.RowError;
+import com.salapp.job.careerlaunch.userservice.dto.UserProfileRequest;
+import com.salapp.job.careerlaunch.userservice.model.User;
+import com.salapp.job.careerlaunch.userservice.repository.UserRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Imports users in bulk from a streamed CSV or NDJSON body.
+ * <p>
+ * Rows are read in chunks of {@code user.import.chunk-size}. Each chunk is validated in parallel, checked for
+ * duplicates with two set queries, and written in one transaction: users through Hibernate JDBC batching
+ * (see {@code spring.jpa.properties.hibernate.jdbc}) and their activation emails as one batched outbox insert, which
+ * the relay publishes as batched Kafka sends. A bad row is reported and skipped, never failing the rest; if a chunk
+ * still fails at the database, for example because a concurrent registration took an email, it is retried row by
+ * row to isolate the offender. Only the current chunk is held in memory.
+ * </p>
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final List<String> CSV_COLUMNS = List.of("id", "email", "firstName", "lastName", "phoneNumber");
+
+    private final UserRepository userRepository;
+    private final UserService userService;
+    private final OutboxService outboxService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public UserImportService(UserRepository userRepository,
+                             UserService userService,
+                             OutboxService outboxService,
+                             Validator validator,
+                             ObjectMapper objectMapper,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${user.import.chunk-size:500}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.userService = userService;
+        this.outboxService = outboxService;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    public enum ImportFormat {
+        NDJSON, CSV
+    }
+
+    private record Row(long line, User user) {
+    }
+
+    /**
+     * Per-import state: running counts, the reported errors and the ids and emails already taken by earlier rows.
+     */
+    private static final class Progress {
+        private final List<RowError> errors = new ArrayList<>();
+        private final Set<String> seenIds = new HashSet<>();
+        private final Set<String> seenEmails = new HashSet<>();
+        private int imported;
+        private int failed;
+
+        void reject(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new RowError(line, message));
+            }
+        }
+
+        ImportReport report() {
+            List<RowError> sorted = errors.stream().sorted(Comparator.comparingLong(RowError::line)).toList();
+            return new ImportReport(imported, failed, sorted, failed > errors.size());
+        }
+    }
+
+    public ImportReport importUsers(ImportFormat format, Reader body) throws IOException {
+        Progress progress = new Progress();
+        BufferedReader reader = new BufferedReader(body);
+        long line = 0;
+
+        String[] header = null;
+        if (format == ImportFormat.CSV) {
+            String headerLine = reader.readLine();
+            line++;
+            if (headerLine == null) {
+                return progress.report();
+            }
+            header = parseCsvLine(headerLine).toArray(String[]::new);
+            if (!Arrays.asList(header).containsAll(List.of("id", "email"))) {
+                throw new IllegalArgumentException("CSV header must contain id and email; known columns are " + CSV_COLUMNS);
+            }
+        }
+
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            try {
+                UserProfileRequest request = format == ImportFormat.CSV ? fromCsv(header, text) : objectMapper.readValue(text, UserProfileRequest.class);
+                chunk.add(new Row(line, toUser(request)));
+            } catch (JsonProcessingException e) {
+                progress.reject(line, "Unreadable row: " + e.getOriginalMessage());
+            } catch (IllegalArgumentException e) {
+                progress.reject(line, "Unreadable row: " + e.getMessage());
+            }
+            if (chunk.size() == chunkSize) {
+                importChunk(chunk, progress);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, progress);
+        }
+
+        log.info("Imported {} users, rejected {}", progress.imported, progress.failed);
+        return progress.report();
+    }
+
+    private void importChunk(List<Row> chunk, Progress progress) {
+        // Validation is CPU-bound and independent per row
+        Map<Row, String> violations = chunk.parallelStream()
+                .map(row -> Map.entry(row, validate(row.user())))
+                .filter(entry -> !entry.getValue().isEmpty())
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        List<Row> candidates = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            String violation = violations.get(row);
+            if (violation != null) {
+                progress.reject(row.line(), violation);
+            } else if (!progress.seenIds.add(row.user().getId())) {
+                progress.reject(row.line(), "Duplicate id in import: " + row.user().getId());
+            } else if (!progress.seenEmails.add(row.user().getEmail())) {
+                progress.reject(row.line(), "Duplicate email in import: " + row.user().getEmail());
+            } else {
+                candidates.add(row);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        Set<String> existingIds = userRepository.findExistingIds(candidates.stream().map(row -> row.user().getId()).toList());
+        Set<String> existingEmails = userRepository.findExistingEmails(candidates.stream().map(row -> row.user().getEmail()).toList());
+        List<Row> fresh = new ArrayList<>(candidates.size());
+        for (Row row : candidates) {
+            if (existingIds.contains(row.user().getId())) {
+                progress.reject(row.line(), "User already exists: " + row.user().getId());
+            } else if (existingEmails.contains(row.user().getEmail())) {
+                progress.reject(row.line(), "Email already registered: " + row.user().getEmail());
+            } else {
+                fresh.add(row);
+            }
+        }
+
+        try {
+            insert(fresh);
+            progress.imported += fresh.size();
+        } catch (DataAccessException e) {
+            log.warn("Batch insert of {} users failed, retrying row by row: {}", fresh.size(), e.getMessage());
+            for (Row row : fresh) {
+                try {
+                    insert(List.of(row));
+                    progress.imported++;
+                } catch (DataAccessException rowFailure) {
+                    progress.reject(row.line(), "Could not insert user: " + rowFailure.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    private void insert(List<Row> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            List<User> users = new ArrayList<>(rows.size());
+            List<OutboxService.Message> notifications = new ArrayList<>(rows.size());
+            for (Row row : rows) {
+                // Fresh entities, so a retry after a failed batch does not reuse a half-persisted instance
+                User user = copy(row.user());
+                NotificationRequest notification = userService.prepareActivation(user);
+                users.add(user);
+                notifications.add(new OutboxService.Message(user.getEmail(), notification));
+            }
+            // Known to be new (see findExistingIds), so persisted without the per-row SELECT of a merge
+            userRepository.persistAll(users);
+            // Surface constraint violations here rather than at commit, where they could not be attributed
+            userRepository.flush();
+            outboxService.enqueueAll(UserService.NOTIFICATION_TOPIC, notifications);
+        });
+    }
+
+    private String validate(User user) {
+        if (user.getId() == null || user.getId().isBlank()) {
+            return "id is required";
+        }
+        Set<ConstraintViolation<User>> violations = validator.validate(user);
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static User toUser(UserProfileRequest request) {
+        return User.builder()
+                .id(request.id())
+                .email(request.email() != null ? request.email().trim() : null)
+                .firstName(request.firstName())
+                .lastName(request.lastName())
+                .phoneNumber(request.phoneNumber())
+                .build();
+    }
+
+    private static User copy(User user) {
+        return User.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .phoneNumber(user.getPhoneNumber())
+                .build();
+    }
+
+    private static UserProfileRequest fromCsv(String[] header, String text) {
+        List<String> values = parseCsvLine(text);
+        if (values.size() != header.length) {
+            throw new IllegalArgumentException("expected " + header.length + " columns but found " + values.size());
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < header.length; i++) {
+            String value = values.get(i);
+            fields.put(header[i], value.isEmpty() ? null : value);
+        }
+        return new UserProfileRequest(fields.get("id"), fields.get("email"), fields.get("firstName"),
+                fields.get("lastName"), null, fields.get("phoneNumber"));
+    }
+
+    /**
+     * Splits one RFC 4180 record; quoted fields may contain commas and doubled quotes but not line breaks.
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString().trim());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quoted field");
+        }
+        values.add(value.toString().trim());
+        return values;
+    }
+}
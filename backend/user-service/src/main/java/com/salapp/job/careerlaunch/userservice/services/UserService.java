@@ -1,27 +1,38 @@
 package com.salapp.job.careerlaunch.userservice.services;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.salapp.career.launch.shared.library.NotificationRequest;
+import com.salapp.career.launch.shared.library.UserActivatedEvent;
+import com.salapp.job.careerlaunch.userservice.dto.UserPage;
 import com.salapp.job.careerlaunch.userservice.dto.UserProfileRequest;
 import com.salapp.job.careerlaunch.userservice.dto.UserResponse;
+import com.salapp.job.careerlaunch.userservice.dto.UserSummary;
 import com.salapp.job.careerlaunch.userservice.exception.UserNotFoundException;
+import com.salapp.job.careerlaunch.userservice.model.ProfilePicture;
 import com.salapp.job.careerlaunch.userservice.model.User;
 import com.salapp.job.careerlaunch.userservice.repository.UserRepository;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaProducerException;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.stream.Stream;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -30,35 +41,48 @@ public class UserService {
     private final UserRepository userRepository;
     private final FileStorageService fileStorageService;
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
-    private final KafkaTemplate<String, NotificationRequest> kafkaTemplate;
+    private final ActivationTokenService activationTokenService;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
 
     private static final int TOKEN_EXPIRES_IN_HOURS = 24;
-    private static final String NOTIFICATION_TOPIC = "notification-events";
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int EXPORT_FLUSH_EVERY = 1000;
+    static final String NOTIFICATION_TOPIC = "notification-events";
+    private static final String ACCOUNT_EVENTS_TOPIC = "account-events";
 
+    @Transactional
     public User save(User user) {
-        String rawToken = UUID.randomUUID().toString();
-        String hashedToken = bCryptPasswordEncoder.encode(rawToken);
-        LocalDateTime expiry = LocalDateTime.now().plusHours(TOKEN_EXPIRES_IN_HOURS);
+        NotificationRequest notificationRequest = prepareActivation(user);
+        User savedUser = userRepository.save(user);
+
+        log.info("Queueing activation notification for user {}", savedUser.getId());
+        outboxService.enqueue(NOTIFICATION_TOPIC, savedUser.getEmail(), notificationRequest);
+        return savedUser;
+    }
 
+    /**
+     * Marks a new user inactive with a fresh activation token and builds the activation email for it.
+     */
+    NotificationRequest prepareActivation(User user) {
+        ActivationTokenService.IssuedToken token = activationTokenService.issue();
+        LocalDateTime expiry = LocalDateTime.now().plusHours(TOKEN_EXPIRES_IN_HOURS);
 
-        user.setActivationToken(hashedToken);
+        user.setActivationSelector(token.selector());
+        user.setActivationToken(token.verifierHash());
         user.setActivationTokenExpiry(expiry);
         user.setActive(false);
-        User savedUser = userRepository.save(user);
 
-        // Send kafka event for activation notification
         NotificationRequest notificationRequest = new NotificationRequest();
         notificationRequest.setRecipient(user.getEmail());
         notificationRequest.setMessageType("activation");
         NotificationRequest.NotificationData data = new NotificationRequest.NotificationData();
         data.setFirstName(user.getFirstName());
-        data.setToken(rawToken);
+        data.setToken(token.rawToken());
         data.setExpiry(expiry.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
         notificationRequest.setData(data);
-
-        log.info("Sending Kafka message: {}", notificationRequest);
-        kafkaTemplate.send(NOTIFICATION_TOPIC, savedUser.getEmail(), notificationRequest);
-        return savedUser;
+        return notificationRequest;
     }
 
     public Optional<User> findByEmail(String email) {
@@ -69,13 +93,127 @@ public class UserService {
         return userRepository.findById(id);
     }
 
+    @Transactional(readOnly = true)
+    public Optional<UserSummary> findSummaryById(String id) {
+        return userRepository.findSummaryById(id);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<UserSummary> findSummaryByEmail(String email) {
+        return userRepository.findSummaryByEmail(email);
+    }
+
+    /**
+     * Activation check on the login path; answered from the primary key index without loading the user.
+     *
+     * @throws UserNotFoundException if the user does not exist
+     */
+    @Transactional(readOnly = true)
+    public boolean isActive(String id) {
+        if (userRepository.existsByIdAndIsActiveTrue(id)) {
+            return true;
+        }
+        if (!userRepository.existsById(id)) {
+            throw new UserNotFoundException("User not found with id: " + id);
+        }
+        return false;
+    }
+
 
     public void delete(User user) {
         userRepository.delete(user);
     }
 
-    public List<User> findAll() {
-        return userRepository.findAll();
+    /**
+     * Returns the page of users created after the cursor position.
+     *
+     * @param cursor {@link UserPage#nextCursor()} of the previous page, or null for the first page
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    @Transactional(readOnly = true)
+    public UserPage findPage(String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        // One extra row tells whether another page follows without a count query
+        Limit limit = Limit.of(size + 1);
+        List<UserSummary> users;
+        if (cursor == null || cursor.isBlank()) {
+            users = userRepository.findFirstPage(limit);
+        } else {
+            String[] position = decodeCursor(cursor);
+            users = userRepository.findPageAfter(LocalDateTime.parse(position[0]), position[1], limit);
+        }
+
+        if (users.size() <= size) {
+            return new UserPage(users, null);
+        }
+        List<UserSummary> page = users.subList(0, size);
+        UserSummary last = page.get(size - 1);
+        return new UserPage(List.copyOf(page), encodeCursor(last.createdAt(), last.id()));
+    }
+
+    /**
+     * Streams every user to {@code writer} in creation order over a forward-only cursor, so heap use does not grow
+     * with the number of users.
+     */
+    @Transactional(readOnly = true)
+    public void exportUsers(ExportFormat format, Writer writer) throws IOException {
+        if (format == ExportFormat.CSV) {
+            writer.write("id,email,firstName,lastName,profilePictureUrl,active,createdAt\n");
+        }
+        try (Stream<UserSummary> users = userRepository.streamAll()) {
+            Iterator<UserSummary> iterator = users.iterator();
+            int written = 0;
+            while (iterator.hasNext()) {
+                UserSummary user = iterator.next();
+                writer.write(format == ExportFormat.CSV ? toCsv(user) : objectMapper.writeValueAsString(user));
+                writer.write('\n');
+                if (++written % EXPORT_FLUSH_EVERY == 0) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+            log.info("Exported {} users as {}", written, format);
+        }
+    }
+
+    public enum ExportFormat {
+        NDJSON, CSV
+    }
+
+    private static String toCsv(UserSummary user) {
+        return String.join(",", csv(user.id()), csv(user.email()), csv(user.firstName()), csv(user.lastName()),
+                csv(user.profilePictureUrl()), String.valueOf(user.isActive()),
+                user.createdAt() != null ? user.createdAt().toString() : "");
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String encodeCursor(LocalDateTime createdAt, String id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 2);
+            if (position.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            LocalDateTime.parse(position[0]);
+            return position;
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
     }
 
     public Optional<User> update(User user, String id) {
@@ -85,6 +223,7 @@ public class UserService {
             updatedUser.setLastName(user.getLastName());
             updatedUser.setEmail(user.getEmail());
             userRepository.save(updatedUser);
+            eventPublisher.publishEvent(new ProfileChangedEvent(id));
         }
         return Optional.ofNullable(updatedUser);
     }
@@ -94,19 +233,25 @@ public class UserService {
             throw new IllegalArgumentException("userId cannot be null");
         }
         User user = userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException("User not found with id: " + userId));
-        String filePath = fileStorageService.storeFile(file);
+        ProfilePicture previous = user.getProfilePicture();
+        ProfilePicture picture = fileStorageService.storeProfilePicture(file);
 
-        String gatewayUrl = "http://localhost:8080/" + filePath;
-        log.info("Uploading profile picture: {} \nFor userId: {}", filePath, userId);
-        user.setProfilePictureUrl(gatewayUrl);
+        log.info("Uploading profile picture: {} \nFor userId: {}", picture.getOriginal(), userId);
+        user.setProfilePicture(picture);
+        user.setProfilePictureUrl("http://localhost:8080/" + picture.getMedium());
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        eventPublisher.publishEvent(new ProfileChangedEvent(userId));
+        fileStorageService.release(previous);
+        return saved;
     }
 
+    @Transactional
     public void activateAccount(String token) {
-        User user = userRepository.findAll().stream()
-                .filter(u -> u.getActivationToken() != null && bCryptPasswordEncoder.matches(token, u.getActivationToken()))
-                .findFirst()
+        User user = activationTokenService.parse(token)
+                .flatMap(parsed -> userRepository.findByActivationSelector(parsed.selector())
+                        .filter(u -> activationTokenService.matches(parsed.verifier(), u.getActivationToken())))
+                .or(() -> findByLegacyToken(token))
                 .orElseThrow(() -> new UserNotFoundException("Invalid or expired activation token"));
 
         if (user.isActive()) {
@@ -117,9 +262,16 @@ public class UserService {
         }
 
         user.setActive(true);
+        user.setActivationSelector(null);
         user.setActivationToken(null);
         user.setActivationTokenExpiry(null);
         User activatedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new ProfileChangedEvent(activatedUser.getId()));
+
+        // Replicate the activation status to auth-server so login does not have to ask us
+        UserActivatedEvent activatedEvent = new UserActivatedEvent(activatedUser.getId(), activatedUser.getEmail(),
+                LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        outboxService.enqueue(ACCOUNT_EVENTS_TOPIC, activatedUser.getId(), activatedEvent);
 
         // Send kafka event for welcome notification
         NotificationRequest notificationRequest = new NotificationRequest();
@@ -129,28 +281,21 @@ public class UserService {
         data.setFirstName(user.getFirstName() != null ? user.getFirstName() : "No Name");
         notificationRequest.setData(data);
 
-        kafkaTemplate.send(NOTIFICATION_TOPIC, activatedUser.getEmail(), notificationRequest)
-                .whenComplete((result, ex) -> {
-                    if (result != null) {
-                        handleSuccess(result);
-                    } else {
-                        handleFailure(ex);
-                    }
-                });
+        outboxService.enqueue(NOTIFICATION_TOPIC, activatedUser.getEmail(), notificationRequest);
     }
 
-    private void handleSuccess(SendResult<String, NotificationRequest> result) {
-        log.info("Successfully sent message to partition {} with offset {}",
-                result.getRecordMetadata().partition(),
-                result.getRecordMetadata().offset());
-    }
-
-    private void handleFailure(Throwable ex) {
-        if (ex instanceof KafkaProducerException kpe) {
-            log.error("Failed to send message: {}", kpe.getFailedProducerRecord().value());
-        } else {
-            log.error("Unexpected error: {}", ex.getMessage());
+    /**
+     * Resolves tokens issued before the selector format (plain UUIDs stored as BCrypt hashes).
+     * Only unexpired legacy rows are scanned, so this path disappears once those tokens expire.
+     */
+    private Optional<User> findByLegacyToken(String token) {
+        if (activationTokenService.parse(token).isPresent()) {
+            return Optional.empty();
         }
+        return userRepository.findByActivationSelectorIsNullAndActivationTokenIsNotNullAndActivationTokenExpiryAfter(LocalDateTime.now())
+                .stream()
+                .filter(u -> bCryptPasswordEncoder.matches(token, u.getActivationToken()))
+                .findFirst();
     }
 
     public UserResponse updateUserProfile(String userId, UserProfileRequest request) {
@@ -160,6 +305,7 @@ public class UserService {
         userFound.setPhoneNumber(request.phoneNumber());
         userFound.setAddress(request.address());
         userRepository.save(userFound);
+        eventPublisher.publishEvent(new ProfileChangedEvent(userId));
 
         return new UserResponse("User updated successfully", null);
     }
@@ -0,0 +1,56 @@
+package com.salapp.job.careerlaunch.userservice.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.salapp.job.careerlaunch.userservice.dto.UserSummary;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SparseFieldsetAdviceTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final SparseFieldsetAdvice advice = new SparseFieldsetAdvice(objectMapper);
+    private final UserSummary user = new UserSummary("user-1", "john@example.com", "John", "Doe",
+            "uploads/ab/cd/picture.jpg", true, null);
+
+    @Test
+    void testFieldsParameterKeepsOnlyListedProperties() {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users");
+        request.setParameter("fields", "firstName, profilePictureUrl,unknown");
+
+        // Act
+        Object body = write(request);
+
+        // Assert
+        ObjectNode node = (ObjectNode) body;
+        assertEquals(List.of("firstName", "profilePictureUrl"), node.properties().stream().map(Map.Entry::getKey).toList());
+        assertEquals("John", node.get("firstName").asText());
+    }
+
+    @Test
+    void testWithoutFieldsParameterBodyIsUnchanged() {
+        // Act
+        Object body = write(new MockHttpServletRequest("GET", "/users"));
+
+        // Assert
+        assertSame(user, body);
+    }
+
+    private Object write(MockHttpServletRequest request) {
+        return advice.beforeBodyWrite(user, null, MediaType.APPLICATION_JSON, MappingJackson2HttpMessageConverter.class,
+                new ServletServerHttpRequest(request), new ServletServerHttpResponse(new MockHttpServletResponse()));
+    }
+}
@@ -0,0 +1,109 @@
+package com.salapp.job.careerlaunch.userservice.controller;
+
+import com.salapp.job.careerlaunch.userservice.services.LocalBlobStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UploadControllerTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private UploadController controller;
+    private String key;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        LocalBlobStore blobStore = new LocalBlobStore(uploadDir.toString());
+        key = blobStore.put("0123456789".getBytes(StandardCharsets.UTF_8), "png");
+        controller = new UploadController(blobStore);
+    }
+
+    @Test
+    void testServe_SendsImmutableResponseWithStrongEtag() throws IOException {
+        // Act
+        MockHttpServletResponse response = serve(new MockHttpServletRequest("GET", "/uploads"));
+
+        // Assert
+        assertEquals(200, response.getStatus());
+        assertEquals("0123456789", response.getContentAsString());
+        assertEquals("image/png", response.getContentType());
+        assertEquals("\"" + key.substring(0, 64) + "\"", response.getHeader(HttpHeaders.ETAG));
+        assertEquals("max-age=31536000, public, immutable", response.getHeader(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    void testServe_MatchingIfNoneMatchReturnsNotModified() throws IOException {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/uploads");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\", \"" + key.substring(0, 64) + "\"");
+
+        // Act
+        MockHttpServletResponse response = serve(request);
+
+        // Assert
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void testServe_SingleRangeReturnsPartialContent() throws IOException {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/uploads");
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-4");
+
+        // Act
+        MockHttpServletResponse response = serve(request);
+
+        // Assert
+        assertEquals(206, response.getStatus());
+        assertEquals("234", response.getContentAsString());
+        assertEquals("bytes 2-4/10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void testServe_UsesSendfileWhenTomcatSupportsIt() throws IOException {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/uploads");
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=5-");
+
+        // Act
+        MockHttpServletResponse response = serve(request);
+
+        // Assert
+        assertEquals(0, response.getContentAsByteArray().length);
+        assertEquals(5L, request.getAttribute("org.apache.tomcat.sendfile.start"));
+        assertEquals(10L, request.getAttribute("org.apache.tomcat.sendfile.end"));
+    }
+
+    @Test
+    void testServe_UnsatisfiableRange() throws IOException {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/uploads");
+        request.addHeader(HttpHeaders.RANGE, "bytes=50-60");
+
+        // Act
+        MockHttpServletResponse response = serve(request);
+
+        // Assert
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    private MockHttpServletResponse serve(MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.serve(key.substring(0, 2), key.substring(2, 4), key, request, response);
+        return response;
+    }
+}
@@ -0,0 +1,45 @@
+package com.salapp.job.careerlaunch.userservice.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActivationTokenServiceTest {
+
+    private final ActivationTokenService tokenService = new ActivationTokenService("test-activation-secret");
+
+    @Test
+    void testIssuedTokenMatchesStoredDigest() {
+        // Act
+        ActivationTokenService.IssuedToken token = tokenService.issue();
+        Optional<ActivationTokenService.ParsedToken> parsed = tokenService.parse(token.rawToken());
+
+        // Assert
+        assertTrue(parsed.isPresent());
+        assertEquals(token.selector(), parsed.get().selector());
+        assertTrue(tokenService.matches(parsed.get().verifier(), token.verifierHash()));
+        assertFalse(token.verifierHash().contains(parsed.get().verifier()), "Verifier must not be stored in clear");
+    }
+
+    @Test
+    void testTamperedVerifierIsRejected() {
+        // Arrange
+        ActivationTokenService.IssuedToken token = tokenService.issue();
+        ActivationTokenService.ParsedToken parsed = tokenService.parse(token.rawToken()).orElseThrow();
+
+        // Act & Assert
+        assertFalse(tokenService.matches(parsed.verifier() + "x", token.verifierHash()));
+        assertFalse(new ActivationTokenService("other-secret").matches(parsed.verifier(), token.verifierHash()));
+    }
+
+    @Test
+    void testLegacyAndMalformedTokensAreNotParsed() {
+        assertTrue(tokenService.parse("2f1c6b0e-6d0a-4c55-9d1f-6a3b9b7f2e11").isEmpty());
+        assertTrue(tokenService.parse(".verifier").isEmpty());
+        assertTrue(tokenService.parse("selector.").isEmpty());
+        assertTrue(tokenService.parse("a.b.c").isEmpty());
+        assertTrue(tokenService.parse(null).isEmpty());
+    }
+}
@@ -0,0 +1,88 @@
+package com.salapp.job.careerlaunch.userservice.services;
+
+import com.salapp.job.careerlaunch.userservice.services.ImageProcessingService.ImageFormat;
+import com.salapp.job.careerlaunch.userservice.services.ImageProcessingService.ResizedVariants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ImageProcessingServiceTest {
+
+    private final ImageProcessingService service = new ImageProcessingService(1, 1, 50_000_000);
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void testProcess_ResizesLargeJpegIntoVariants() throws IOException {
+        // Arrange
+        byte[] jpeg = encode(new BufferedImage(3000, 2000, BufferedImage.TYPE_INT_RGB), "jpg");
+
+        // Act
+        ResizedVariants variants = service.process(() -> new ByteArrayInputStream(jpeg));
+
+        // Assert
+        assertEquals(ImageFormat.JPEG, variants.originalFormat());
+        BufferedImage medium = ImageIO.read(new ByteArrayInputStream(variants.medium().bytes()));
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(variants.thumbnail().bytes()));
+        assertEquals(512, medium.getWidth());
+        assertEquals(341, medium.getHeight());
+        assertEquals(96, thumbnail.getWidth());
+        assertEquals("jpg", variants.thumbnail().extension());
+    }
+
+    @Test
+    void testProcess_KeepsTransparencyAsPng() throws IOException {
+        // Arrange
+        byte[] png = encode(new BufferedImage(200, 400, BufferedImage.TYPE_INT_ARGB), "png");
+
+        // Act
+        ResizedVariants variants = service.process(() -> new ByteArrayInputStream(png));
+
+        // Assert
+        assertEquals(ImageFormat.PNG, variants.originalFormat());
+        assertEquals("image/png", variants.medium().mediaType());
+        // Smaller images are never upscaled
+        assertEquals(400, ImageIO.read(new ByteArrayInputStream(variants.medium().bytes())).getHeight());
+    }
+
+    @Test
+    void testProcess_RejectsNonImageWhateverItsContentType() {
+        // Arrange
+        byte[] script = "<svg onload=alert(1)>".getBytes(StandardCharsets.UTF_8);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> service.process(() -> new ByteArrayInputStream(script)));
+    }
+
+    @Test
+    void testProcess_RejectsImagesAbovePixelLimit() throws IOException {
+        // Arrange
+        ImageProcessingService limited = new ImageProcessingService(1, 1, 1_000);
+        byte[] png = encode(new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB), "png");
+
+        // Act & Assert
+        try {
+            assertThrows(IllegalArgumentException.class, () -> limited.process(() -> new ByteArrayInputStream(png)));
+        } finally {
+            limited.shutdown();
+        }
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+}
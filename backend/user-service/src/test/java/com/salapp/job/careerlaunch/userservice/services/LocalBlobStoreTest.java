@@ -0,0 +1,84 @@
+package com.salapp.job.careerlaunch.userservice.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalBlobStoreTest {
+
+    private static final byte[] CONTENT = "avatar".getBytes(StandardCharsets.UTF_8);
+    private static final String KEY = "87bbe879c7a5f5784a70384bb49fa9513a6a3fbe4c2d388635e3c87611c03fae.png";
+
+    @TempDir
+    Path uploadDir;
+
+    private LocalBlobStore blobStore;
+
+    @BeforeEach
+    void setUp() {
+        blobStore = new LocalBlobStore(uploadDir.toString());
+    }
+
+    @Test
+    void testPut_StoresContentUnderShardedHashPath() throws IOException {
+        // Act
+        String key = blobStore.put(new ByteArrayInputStream(CONTENT), "png");
+
+        // Assert
+        Path stored = uploadDir.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+        assertArrayEquals(CONTENT, Files.readAllBytes(stored));
+        assertEquals("uploads/" + key.substring(0, 2) + "/" + key.substring(2, 4) + "/" + key, blobStore.publicPath(key));
+        try (var temp = Files.list(uploadDir.resolve(".tmp"))) {
+            assertEquals(0, temp.count());
+        }
+    }
+
+    @Test
+    void testPut_DeduplicatesIdenticalContent() throws IOException {
+        // Act
+        String streamed = blobStore.put(new ByteArrayInputStream(CONTENT), "png");
+        String buffered = blobStore.put(CONTENT, "png");
+
+        // Assert
+        assertEquals(streamed, buffered);
+        try (var files = Files.walk(uploadDir)) {
+            assertEquals(1, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    void testDelete_KeepsRecentlyWrittenBlob() throws IOException {
+        // Arrange
+        String key = blobStore.put(CONTENT, "png");
+        Path stored = blobStore.resolve(key);
+        Files.setLastModifiedTime(stored, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+
+        // Act
+        blobStore.put(CONTENT, "png");
+        boolean deletedWhileFresh = blobStore.delete(key, Instant.now().minus(Duration.ofHours(1)));
+        boolean deleted = blobStore.delete(key, Instant.now().plusSeconds(1));
+
+        // Assert
+        assertFalse(deletedWhileFresh);
+        assertTrue(deleted);
+        assertFalse(Files.exists(stored));
+    }
+
+    @Test
+    void testResolve_RejectsKeysOutsideTheStore() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> blobStore.resolve("../../etc/passwd"));
+        assertThrows(IllegalArgumentException.class, () -> blobStore.resolve(KEY.toUpperCase()));
+    }
+}
@@ -0,0 +1,101 @@
+package com.salapp.job.careerlaunch.userservice.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.salapp.career.launch.shared.library.NotificationRequest;
+import com.salapp.career.launch.shared.library.UserActivatedEvent;
+import com.salapp.job.careerlaunch.userservice.model.OutboxEvent;
+import com.salapp.job.careerlaunch.userservice.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private OutboxEventRepository outboxEventRepository;
+    private KafkaTemplate<String, NotificationRequest> notificationKafkaTemplate;
+    private KafkaTemplate<String, UserActivatedEvent> accountEventsKafkaTemplate;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        outboxEventRepository = mock(OutboxEventRepository.class);
+        notificationKafkaTemplate = mock(KafkaTemplate.class);
+        accountEventsKafkaTemplate = mock(KafkaTemplate.class);
+        relay = new OutboxRelay(outboxEventRepository, notificationKafkaTemplate, accountEventsKafkaTemplate,
+                objectMapper, mock(TransactionTemplate.class), 10, Duration.ofDays(7), 3);
+    }
+
+    @Test
+    void testPublishBatch_MarksOnlyAcknowledgedEventsAsSentAndBacksOffFailures() throws Exception {
+        // Arrange
+        NotificationRequest notification = new NotificationRequest("john@example.com", "welcome",
+                new NotificationRequest.NotificationData("John", null, null));
+        UserActivatedEvent activated = new UserActivatedEvent("user-1", "john@example.com", "2025-03-10T12:00:00");
+        OutboxEvent failing = event(2L, "account-events", activated);
+        when(outboxEventRepository.lockUnsent(any(LocalDateTime.class), eq(10))).thenReturn(List.of(
+                event(1L, "notification-events", notification),
+                failing));
+        when(notificationKafkaTemplate.send(eq("notification-events"), eq("key"), any(NotificationRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(accountEventsKafkaTemplate.send(eq("account-events"), eq("key"), any(UserActivatedEvent.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+
+        // Act
+        int sent = relay.publishBatch();
+
+        // Assert
+        assertEquals(1, sent);
+        verify(notificationKafkaTemplate).send("notification-events", "key", notification);
+        verify(outboxEventRepository).markSent(eq(List.of(1L)), any(LocalDateTime.class));
+        assertEquals(1, failing.getAttempts());
+        assertNotNull(failing.getNextAttemptAt());
+        assertNull(failing.getFailedAt());
+    }
+
+    @Test
+    void testPublishBatch_ParksPoisonEventAfterMaxAttempts() throws Exception {
+        // Arrange
+        OutboxEvent poison = event(1L, "notification-events", "unexpected payload");
+        poison.setAttempts(2);
+        when(outboxEventRepository.lockUnsent(any(LocalDateTime.class), eq(10))).thenReturn(List.of(poison));
+
+        // Act
+        int sent = relay.publishBatch();
+
+        // Assert
+        assertEquals(0, sent);
+        assertEquals(3, poison.getAttempts());
+        assertNotNull(poison.getFailedAt());
+        verify(outboxEventRepository, never()).markSent(any(), any());
+    }
+
+    private OutboxEvent event(Long id, String topic, Object payload) throws Exception {
+        return OutboxEvent.builder()
+                .id(id)
+                .topic(topic)
+                .eventKey("key")
+                .eventType(payload.getClass().getSimpleName())
+                .payload(objectMapper.writeValueAsString(payload))
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.salapp.job.careerlaunch.userservice.services;
+
+import com.salapp.job.careerlaunch.userservice.dto.ProfileResponse;
+import com.salapp.job.careerlaunch.userservice.model.User;
+import com.salapp.job.careerlaunch.userservice.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig
+class ProfileServiceTest {
+
+    @Configuration
+    @EnableCaching
+    @Import(ProfileService.class)
+    static class Config {
+
+        @Bean
+        UserRepository userRepository() {
+            return mock(UserRepository.class);
+        }
+
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager(ProfileService.CACHE);
+        }
+    }
+
+    @Autowired
+    private ProfileService profileService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        reset(userRepository);
+        eventPublisher.publishEvent(new ProfileChangedEvent("user-1"));
+    }
+
+    @Test
+    void testGetProfile_RepeatedReadsDoNotHitRepository() {
+        // Arrange
+        when(userRepository.findById("user-1")).thenReturn(Optional.of(user("John")));
+
+        // Act
+        profileService.getProfile("user-1");
+        ProfileResponse profile = profileService.getProfile("user-1");
+
+        // Assert
+        assertEquals("John", profile.firstName());
+        verify(userRepository, times(1)).findById("user-1");
+    }
+
+    @Test
+    void testGetProfile_ChangeEventEvictsEntry() {
+        // Arrange
+        when(userRepository.findById("user-1")).thenReturn(Optional.of(user("John")), Optional.of(user("Johnny")));
+        profileService.getProfile("user-1");
+
+        // Act
+        eventPublisher.publishEvent(new ProfileChangedEvent("user-1"));
+        ProfileResponse profile = profileService.getProfile("user-1");
+
+        // Assert
+        assertEquals("Johnny", profile.firstName());
+        verify(userRepository, times(2)).findById("user-1");
+    }
+
+    private static User user(String firstName) {
+        return User.builder().id("user-1").email("john@example.com").firstName(firstName).build();
+    }
+}
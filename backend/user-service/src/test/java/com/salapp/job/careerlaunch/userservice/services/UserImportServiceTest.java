@@ -0,0 +1,98 @@
+package com.salapp.job.careerlaunch.userservice.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.salapp.career.launch.shared.library.NotificationRequest;
+import com.salapp.job.careerlaunch.userservice.dto.ImportReport;
+import com.salapp.job.careerlaunch.userservice.model.User;
+import com.salapp.job.careerlaunch.userservice.repository.UserRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class UserImportServiceTest {
+
+    private UserRepository userRepository;
+    private UserService userService;
+    private OutboxService outboxService;
+    private UserImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        userService = mock(UserService.class);
+        outboxService = mock(OutboxService.class);
+        when(userService.prepareActivation(any(User.class))).thenReturn(new NotificationRequest());
+        when(userRepository.findExistingIds(any())).thenReturn(Set.of());
+        when(userRepository.findExistingEmails(any())).thenReturn(Set.of("taken@example.com"));
+
+        Validator validator = Validation.byDefaultProvider().configure()
+                .messageInterpolator(new ParameterMessageInterpolator())
+                .buildValidatorFactory()
+                .getValidator();
+        importService = new UserImportService(userRepository, userService, outboxService, validator,
+                new ObjectMapper(), new TransactionTemplate(mock(PlatformTransactionManager.class)), 2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testImportUsers_ReportsBadRowsAndImportsTheRest() throws IOException {
+        // Arrange
+        String csv = """
+                id,email,firstName
+                u1,one@example.com,"Doe, Jane"
+                u2,not-an-email,John
+                u3,taken@example.com,Ann
+                u4,one@example.com,Dup
+                u5,five@example.com,Eve
+                """;
+
+        // Act
+        ImportReport report = importService.importUsers(UserImportService.ImportFormat.CSV, new StringReader(csv));
+
+        // Assert
+        assertEquals(2, report.imported());
+        assertEquals(3, report.failed());
+        assertEquals(List.of(3L, 4L, 5L), report.errors().stream().map(ImportReport.RowError::line).toList());
+        ArgumentCaptor<List<User>> saved = ArgumentCaptor.forClass(List.class);
+        verify(userRepository, times(2)).persistAll(saved.capture());
+        assertEquals("Doe, Jane", saved.getAllValues().get(0).get(0).getFirstName());
+        verify(outboxService, times(2)).enqueueAll(eq(UserService.NOTIFICATION_TOPIC), anyList());
+    }
+
+    @Test
+    void testImportUsers_FailedBatchIsRetriedRowByRow() throws IOException {
+        // Arrange
+        String ndjson = """
+                {"id":"u1","email":"one@example.com"}
+                {"id":"u2","email":"two@example.com"}
+                """;
+        doThrow(new DataIntegrityViolationException("duplicate key")).when(userRepository)
+                .persistAll(argThat((List<User> users) -> users.size() > 1 || users.get(0).getId().equals("u2")));
+
+        // Act
+        ImportReport report = importService.importUsers(UserImportService.ImportFormat.NDJSON, new StringReader(ndjson));
+
+        // Assert
+        assertEquals(1, report.imported());
+        assertEquals(1, report.failed());
+        assertEquals(2L, report.errors().get(0).line());
+    }
+}
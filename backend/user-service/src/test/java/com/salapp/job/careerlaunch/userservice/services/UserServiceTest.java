@@ -0,0 +1,106 @@
+package com.salapp.job.careerlaunch.userservice.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.salapp.job.careerlaunch.userservice.dto.UserPage;
+import com.salapp.job.careerlaunch.userservice.dto.UserSummary;
+import com.salapp.job.careerlaunch.userservice.exception.UserNotFoundException;
+import com.salapp.job.careerlaunch.userservice.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class UserServiceTest {
+
+    private UserRepository userRepository;
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        userService = new UserService(userRepository, mock(FileStorageService.class), new BCryptPasswordEncoder(),
+                mock(ActivationTokenService.class), mock(OutboxService.class), mock(ApplicationEventPublisher.class),
+                new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Test
+    void testIsActive_AnsweredWithoutLoadingUser() {
+        // Arrange
+        when(userRepository.existsByIdAndIsActiveTrue("user-1")).thenReturn(true);
+
+        // Act
+        boolean active = userService.isActive("user-1");
+
+        // Assert
+        assertTrue(active);
+        verify(userRepository, never()).findById(anyString());
+        verify(userRepository, never()).existsById(anyString());
+    }
+
+    @Test
+    void testIsActive_DistinguishesInactiveFromUnknownUsers() {
+        // Arrange
+        when(userRepository.existsById("inactive")).thenReturn(true);
+
+        // Act & Assert
+        assertFalse(userService.isActive("inactive"));
+        assertThrows(UserNotFoundException.class, () -> userService.isActive("unknown"));
+        verify(userRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void testFindPage_CursorContinuesAfterLastRow() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 10, 12, 0);
+        when(userRepository.findFirstPage(Limit.of(3))).thenReturn(List.of(
+                summary("a", createdAt), summary("b", createdAt), summary("c", createdAt)));
+        when(userRepository.findPageAfter(createdAt, "b", Limit.of(3))).thenReturn(List.of(summary("c", createdAt)));
+
+        // Act
+        UserPage first = userService.findPage(null, 2);
+        UserPage second = userService.findPage(first.nextCursor(), 2);
+
+        // Assert
+        assertEquals(List.of("a", "b"), first.users().stream().map(UserSummary::id).toList());
+        assertEquals(List.of("c"), second.users().stream().map(UserSummary::id).toList());
+        assertNull(second.nextCursor());
+    }
+
+    @Test
+    void testFindPage_RejectsMalformedCursor() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> userService.findPage("not-a-cursor", 10));
+    }
+
+    @Test
+    void testExportUsers_WritesEscapedCsv() throws IOException {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 10, 12, 0);
+        when(userRepository.streamAll()).thenReturn(Stream.of(
+                new UserSummary("a", "a@example.com", "Ann, \"Jr\"", null, null, true, createdAt)));
+        StringWriter writer = new StringWriter();
+
+        // Act
+        userService.exportUsers(UserService.ExportFormat.CSV, writer);
+
+        // Assert
+        assertEquals("id,email,firstName,lastName,profilePictureUrl,active,createdAt\n"
+                + "a,a@example.com,\"Ann, \"\"Jr\"\"\",,,true,2025-03-10T12:00\n", writer.toString());
+    }
+
+    private static UserSummary summary(String id, LocalDateTime createdAt) {
+        return new UserSummary(id, id + "@example.com", null, null, null, true, createdAt);
+    }
+}